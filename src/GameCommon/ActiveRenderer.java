@@ -0,0 +1,143 @@
+package GameCommon;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mode render aktif: satu thread game loop menjadi jam untuk update dengan timestep tetap dan untuk
+ * menggambar ke BufferStrategy (triple buffer kalau tersedia) dengan pacing ke FPS target, menggantikan
+ * repaint() yang dipanggil dari mana-mana. State game di kedua game hanya boleh disentuh EDT, jadi
+ * setiap frame (update + render) dijalankan di EDT lewat invokeAndWait; loop ini yang menentukan kapan.
+ * Kalau EDT sibuk, frame itu terlambat dan terlihat di angka FPS, bukan menumpuk.
+ */
+public class ActiveRenderer extends Canvas {
+    public interface Scene {
+        /** Dipanggil tepat updateHz kali per detik (bisa beberapa kali per frame kalau tertinggal). */
+        void update();
+
+        void render(Graphics2D g, int width, int height);
+    }
+
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    private static final Font STATS_FONT = new Font("Monospaced", Font.BOLD, 12);
+
+    private final Scene scene;
+    private final long stepNanos, frameNanos;
+    private volatile boolean running = false;
+    private Thread loop;
+    private BufferStrategy strategy;
+    public volatile boolean showStats = true;
+
+    // Statistik, ditulis di EDT saat frame dan dibaca saat menggambar readout
+    private double fps = 0, frameMillis = 0, maxFrameMillis = 0;
+    private int framesThisSecond = 0;
+    private long secondStart = 0, frameMaxThisSecond = 0, frameTotalThisSecond = 0;
+
+    public ActiveRenderer(Scene scene, int updateHz, int targetFps) {
+        this.scene = scene;
+        this.stepNanos = 1_000_000_000L / updateHz;
+        this.frameNanos = 1_000_000_000L / targetFps;
+        setIgnoreRepaint(true);
+        setBackground(Color.BLACK);
+    }
+
+    /** Panggil di EDT setelah canvas sudah ada di layar (displayable). */
+    public void start() {
+        if (running) return;
+        createBufferStrategy(3);
+        strategy = getBufferStrategy();
+        running = true;
+        loop = new Thread(this::runLoop, "game-loop");
+        loop.setDaemon(true);
+        loop.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (loop != null) loop.interrupt();
+        loop = null;
+    }
+
+    @Override
+    public void removeNotify() {
+        stop();
+        super.removeNotify();
+    }
+
+    public boolean isRunning() { return running; }
+    public double fps() { return fps; }
+    public double frameMillis() { return frameMillis; }
+
+    private void runLoop() {
+        long previous = System.nanoTime(), accumulated = 0, nextFrame = previous;
+        while (running) {
+            long now = System.nanoTime();
+            accumulated = Math.min(accumulated + now - previous, MAX_CATCH_UP_STEPS * stepNanos);
+            previous = now;
+            int steps = (int) (accumulated / stepNanos);
+            accumulated -= steps * stepNanos;
+            try {
+                EventQueue.invokeAndWait(() -> frame(steps));
+            } catch (InterruptedException e) {
+                return;
+            } catch (InvocationTargetException e) {
+                e.getCause().printStackTrace();
+            }
+            // Pacing: tidur sampai jadwal frame berikutnya; kalau sudah terlambat, jadwal digeser (tidak mengejar)
+            nextFrame += frameNanos;
+            long wait = nextFrame - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            else nextFrame = System.nanoTime();
+        }
+    }
+
+    private void frame(int steps) {
+        if (!running || !isShowing() || strategy == null) return; // kartu lain sedang tampil: lewati
+        long t0 = System.nanoTime();
+        for (int i = 0; i < steps; i++) scene.update();
+        int w = getWidth(), h = getHeight();
+        do {
+            do {
+                Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                try {
+                    scene.render(g, w, h);
+                    if (showStats) drawStats(g, w);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        recordFrame(t0, System.nanoTime());
+    }
+
+    private void recordFrame(long start, long end) {
+        long duration = end - start;
+        if (secondStart == 0) secondStart = start;
+        framesThisSecond++;
+        frameTotalThisSecond += duration;
+        frameMaxThisSecond = Math.max(frameMaxThisSecond, duration);
+        if (end - secondStart >= 1_000_000_000L) {
+            fps = framesThisSecond * 1e9 / (end - secondStart);
+            frameMillis = frameTotalThisSecond / 1e6 / framesThisSecond;
+            maxFrameMillis = frameMaxThisSecond / 1e6;
+            framesThisSecond = 0;
+            frameTotalThisSecond = frameMaxThisSecond = 0;
+            secondStart = end;
+        }
+    }
+
+    private void drawStats(Graphics2D g, int width) {
+        String text = String.format("FPS %.0f | frame %.2f ms (maks %.2f)", fps, frameMillis, maxFrameMillis);
+        g.setFont(STATS_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        int tw = fm.stringWidth(text), x = width - tw - 12, y = 8;
+        g.setColor(new Color(0, 0, 0, 160));
+        g.fillRect(x - 6, y, tw + 12, fm.getHeight() + 4);
+        g.setColor(Color.GREEN);
+        g.drawString(text, x, y + fm.getAscent() + 2);
+    }
+}
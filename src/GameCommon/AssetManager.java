@@ -0,0 +1,211 @@
+package GameCommon;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Satu tempat untuk semua aset kedua game (gambar, font, suara), disimpan per path resource
+ * (misalnya "/MazeGame/assets/grass.png"). File WAV langsung di-decode ke PCM saat dimuat. Semua aset bisa dimuat paralel sekali di awal (lihat AssetSplash),
+ * setelah itu komponen mana pun yang meminta path yang sama mendapat objek yang sama.
+ * Gambar diubah ke format yang cocok dengan layar (compatible image), dan versi yang sudah diskalakan
+ * ke ukuran gambarnya ikut di-cache, jadi paint tidak perlu menskalakan ulang setiap frame.
+ * Aset yang tidak ada dicatat juga, supaya tidak dicari berulang kali; pemanggil menerima null.
+ */
+public final class AssetManager {
+    private static final Object MISSING = new Object();
+    // Batas cache gambar terskala dalam byte piksel (bukan jumlah entri), supaya gambar besar tidak menumpuk
+    private static final long SCALED_CACHE_BYTES = 32L << 20;
+
+    private static final ConcurrentHashMap<String, Object> cache = new ConcurrentHashMap<>();
+    // LRU berurutan akses; yang paling lama tidak dipakai dibuang sampai total piksel di bawah batas
+    private static final LinkedHashMap<String, BufferedImage> scaled = new LinkedHashMap<>(64, 0.75f, true);
+    private static long scaledBytes = 0;
+
+    private AssetManager() { }
+
+    /** Daftar path lengkap dari folder aset dan nama-nama file di dalamnya. */
+    public static List<String> list(String basePath, String... names) {
+        List<String> paths = new ArrayList<>();
+        for (String name : names) paths.add(basePath + name);
+        return paths;
+    }
+
+    /**
+     * Muat semua path secara paralel dan tunggu sampai selesai. progress menerima jumlah aset yang sudah
+     * dimuat (dipanggil dari thread pemuat). Aset yang gagal tidak menghentikan yang lain.
+     */
+    public static void preload(Collection<String> paths, IntConsumer progress) throws InterruptedException {
+        int threads = Math.max(1, Math.min(paths.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(paths.size());
+        AtomicInteger loaded = new AtomicInteger();
+        for (String path : paths) {
+            executor.submit(() -> {
+                try {
+                    load(path);
+                } finally {
+                    progress.accept(loaded.incrementAndGet());
+                    done.countDown();
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Gambar dalam ukuran aslinya, sudah dalam format layar. */
+    public static BufferedImage image(String path) {
+        Object asset = load(path);
+        return asset instanceof BufferedImage ? (BufferedImage) asset : null;
+    }
+
+    /**
+     * Gambar yang sudah diskalakan ke w x h; dibuat sekali per ukuran lalu dipakai ulang. Untuk ukuran
+     * tetap (tile, ikon, skin). Latar yang mengikuti ukuran panel pakai Backdrop supaya tidak mengisi cache ini.
+     */
+    public static BufferedImage scaled(String path, int w, int h) {
+        if (w <= 0 || h <= 0) return null;
+        String key = path + "@" + w + "x" + h;
+        synchronized (scaled) {
+            BufferedImage hit = scaled.get(key);
+            if (hit != null) return hit;
+        }
+        BufferedImage source = image(path);
+        if (source == null) return null;
+        BufferedImage result = scale(source, w, h);
+        synchronized (scaled) {
+            BufferedImage old = scaled.put(key, result);
+            if (old != null) scaledBytes -= bytesOf(old);
+            scaledBytes += bytesOf(result);
+            Iterator<BufferedImage> eldest = scaled.values().iterator();
+            while (scaledBytes > SCALED_CACHE_BYTES && scaled.size() > 1) {
+                scaledBytes -= bytesOf(eldest.next());
+                eldest.remove();
+            }
+        }
+        return result;
+    }
+
+    private static long bytesOf(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Latar yang diskalakan ke ukuran panel. Setiap panel punya satu Backdrop yang hanya menyimpan ukuran
+     * terakhir, jadi resize/maximize mengganti gambar lama alih-alih menambah gambar selebar layar ke cache.
+     * Dipakai dari EDT (paint).
+     */
+    public static final class Backdrop {
+        private final String path;
+        private BufferedImage image;
+
+        public Backdrop(String path) { this.path = path; }
+
+        public BufferedImage at(int w, int h) {
+            if (w <= 0 || h <= 0) return null;
+            if (image == null || image.getWidth() != w || image.getHeight() != h) {
+                BufferedImage source = image(path);
+                image = source == null ? null : scale(source, w, h);
+            }
+            return image;
+        }
+    }
+
+    /** Font dasar (ukuran 1pt, sudah didaftarkan ke GraphicsEnvironment); pakai deriveFont untuk ukurannya. */
+    public static Font font(String path) {
+        Object asset = load(path);
+        return asset instanceof Font ? (Font) asset : null;
+    }
+
+    /** Suara WAV yang sudah di-decode ke PCM (lihat AudioMixer). */
+    public static PcmSound sound(String path) {
+        Object asset = load(path);
+        return asset instanceof PcmSound ? (PcmSound) asset : null;
+    }
+
+    /** Isi file mentah untuk jenis file lain, atau null kalau tidak ada. */
+    public static byte[] bytes(String path) {
+        Object asset = load(path);
+        return asset instanceof byte[] ? (byte[]) asset : null;
+    }
+
+    /**
+     * Skala dengan interpolasi bilinear; kalau mengecil lebih dari setengah, dikecilkan bertahap (separuh
+     * per langkah) supaya hasilnya tetap halus seperti SCALE_SMOOTH tapi jauh lebih cepat.
+     */
+    public static BufferedImage scale(BufferedImage source, int w, int h) {
+        BufferedImage current = source;
+        int cw = source.getWidth(), ch = source.getHeight();
+        do {
+            cw = cw / 2 >= w ? cw / 2 : w;
+            ch = ch / 2 >= h ? ch / 2 : h;
+            BufferedImage next = createCompatible(cw, ch);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, cw, ch, null);
+            g.dispose();
+            current = next;
+        } while (cw != w || ch != h);
+        return current;
+    }
+
+    private static Object load(String path) {
+        Object asset = cache.get(path);
+        if (asset == null) {
+            asset = read(path);
+            Object raced = cache.putIfAbsent(path, asset);
+            if (raced != null) asset = raced;
+        }
+        return asset == MISSING ? null : asset;
+    }
+
+    private static Object read(String path) {
+        URL url = AssetManager.class.getResource(path);
+        if (url == null) {
+            System.err.println("Asset missing: " + path);
+            return MISSING;
+        }
+        String lower = path.toLowerCase(Locale.ROOT);
+        try (InputStream in = url.openStream()) {
+            if (lower.endsWith(".ttf")) {
+                Font font = Font.createFont(Font.TRUETYPE_FONT, in);
+                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(font);
+                return font;
+            }
+            if (lower.endsWith(".png") || lower.endsWith(".jpg") || lower.endsWith(".gif")) {
+                BufferedImage raw = ImageIO.read(in);
+                if (raw == null) return MISSING;
+                BufferedImage image = createCompatible(raw.getWidth(), raw.getHeight());
+                Graphics2D g = image.createGraphics();
+                g.drawImage(raw, 0, 0, null);
+                g.dispose();
+                return image;
+            }
+            if (lower.endsWith(".wav")) return PcmSound.decode(in.readAllBytes());
+            return in.readAllBytes();
+        } catch (IOException | FontFormatException e) {
+            System.err.println("Gagal memuat " + path + ": " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    private static BufferedImage createCompatible(int w, int h) {
+        if (GraphicsEnvironment.isHeadless()) return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        return gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+    }
+}
@@ -0,0 +1,57 @@
+package GameCommon;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Collection;
+
+/**
+ * Layar pembuka sederhana: judul dan progress bar selama AssetManager memuat aset di background.
+ * Begitu selesai, splash ditutup dan onReady dijalankan di EDT (biasanya membuat dan menampilkan frame utama).
+ */
+public class AssetSplash extends JWindow {
+    private final JProgressBar bar;
+
+    private AssetSplash(String title, int total) {
+        JPanel content = new JPanel(new BorderLayout(0, 12));
+        content.setBackground(new Color(40, 40, 40));
+        content.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(Color.WHITE, 2), BorderFactory.createEmptyBorder(24, 32, 24, 32)));
+
+        JLabel lblTitle = new JLabel(title, SwingConstants.CENTER);
+        lblTitle.setForeground(Color.WHITE);
+        lblTitle.setFont(new Font("Monospaced", Font.BOLD, 28));
+        content.add(lblTitle, BorderLayout.CENTER);
+
+        bar = new JProgressBar(0, Math.max(1, total));
+        bar.setStringPainted(true);
+        bar.setString("Memuat aset...");
+        bar.setForeground(new Color(85, 170, 85));
+        content.add(bar, BorderLayout.SOUTH);
+
+        setContentPane(content);
+        setSize(420, 140);
+        setLocationRelativeTo(null);
+    }
+
+    /** Boleh dipanggil dari thread mana saja (biasanya main). */
+    public static void show(String title, Collection<String> paths, Runnable onReady) {
+        AssetSplash[] splash = new AssetSplash[1];
+        // Semua akses ke splash lewat invokeLater, jadi urutannya terjaga: dibuat dulu, baru diperbarui
+        SwingUtilities.invokeLater(() -> {
+            splash[0] = new AssetSplash(title, paths.size());
+            splash[0].setVisible(true);
+        });
+        Thread loader = new Thread(() -> {
+            try {
+                AssetManager.preload(paths, loaded -> SwingUtilities.invokeLater(() -> splash[0].bar.setValue(loaded)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            SwingUtilities.invokeLater(() -> {
+                splash[0].dispose();
+                onReady.run();
+            });
+        }, "asset-preload");
+        loader.start();
+    }
+}
@@ -0,0 +1,186 @@
+package GameCommon;
+
+import javax.sound.sampled.*;
+
+/**
+ * Mixer software: satu thread audio menjumlahkan semua suara yang aktif (voice) dari PcmSound ke satu
+ * buffer lalu menulisnya ke satu SourceDataLine. Berapa pun efek yang dipicu, tidak ada Clip atau thread
+ * baru; kalau voice sudah penuh (MAX_VOICES), voice efek yang paling lama diputar dihentikan untuk yang baru.
+ * Voice yang loop (musik) tidak pernah dicuri.
+ *
+ * play() mengembalikan handle; handle dipakai untuk stop() atau setGain() voice itu selama masih berbunyi.
+ * Handle lama yang voice-nya sudah dipakai suara lain otomatis tidak berlaku lagi.
+ */
+public final class AudioMixer {
+    public static final int SAMPLE_RATE = 44100;
+    public static final int MAX_VOICES = 16;
+    /** Frame per putaran mix; bersama buffer line menentukan latensi. */
+    static final int BLOCK_FRAMES = 512;
+    private static final int LINE_BUFFER_FRAMES = BLOCK_FRAMES * 4;
+    static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, 2, true, false);
+
+    private static AudioMixer shared;
+
+    private static final class Voice {
+        short[] samples;
+        int position;
+        float gain;
+        boolean loop;
+        int generation;
+        long order;
+        long triggeredAt;
+
+        boolean active() { return samples != null; }
+    }
+
+    private final Voice[] voices = new Voice[MAX_VOICES];
+    private final SourceDataLine line;
+    private final int[] mix = new int[BLOCK_FRAMES * 2];
+    private final byte[] out = new byte[BLOCK_FRAMES * 4];
+    private long playCounter = 0;
+    private volatile boolean running;
+
+    // Statistik: latensi = dari play() sampai sampel pertamanya keluar speaker (perkiraan dari isi buffer line)
+    private long latencySamples = 0, latencyTotalNanos = 0, latencyMaxNanos = 0;
+    public volatile long stolenVoices = 0, underruns = 0;
+
+    AudioMixer(SourceDataLine line) {
+        this.line = line;
+        for (int i = 0; i < MAX_VOICES; i++) voices[i] = new Voice();
+    }
+
+    /** Mixer bersama untuk proses ini, dibuka saat pertama diminta. Kalau tidak ada perangkat audio, semua suara diabaikan. */
+    public static synchronized AudioMixer shared() {
+        if (shared == null) {
+            SourceDataLine line = null;
+            try {
+                line = AudioSystem.getSourceDataLine(FORMAT);
+                line.open(FORMAT, LINE_BUFFER_FRAMES * FORMAT.getFrameSize());
+                line.start();
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                System.err.println("Audio tidak tersedia: " + e.getMessage());
+                line = null;
+            }
+            shared = new AudioMixer(line);
+            if (line != null) shared.start();
+        }
+        return shared;
+    }
+
+    public boolean isAvailable() { return line != null; }
+
+    void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "audio-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    /** Putar sound dengan gain linear (0-1). Mengembalikan handle, atau -1 kalau tidak bisa diputar. */
+    public synchronized int play(PcmSound sound, float gain, boolean loop) {
+        if (line == null || sound == null || sound.samples.length == 0) return -1;
+        int slot = -1;
+        for (int i = 0; i < MAX_VOICES; i++) if (!voices[i].active()) { slot = i; break; }
+        if (slot < 0) {
+            // Polifoni penuh: curi efek (bukan loop) yang paling lama berjalan
+            for (int i = 0; i < MAX_VOICES; i++) {
+                if (voices[i].loop) continue;
+                if (slot < 0 || voices[i].order < voices[slot].order) slot = i;
+            }
+            if (slot < 0) return -1;
+            stolenVoices++;
+        }
+        Voice v = voices[slot];
+        v.samples = sound.samples;
+        v.position = 0;
+        v.gain = gain;
+        v.loop = loop;
+        v.generation = (v.generation + 1) & 0x7FFFFF; // 23 bit: handle (generation << 8 | slot) tidak pernah negatif
+        v.order = playCounter++;
+        v.triggeredAt = System.nanoTime();
+        return (v.generation << 8) | slot;
+    }
+
+    public int play(PcmSound sound, float gain) { return play(sound, gain, false); }
+
+    public synchronized void stop(int handle) {
+        Voice v = voiceOf(handle);
+        if (v != null) v.samples = null;
+    }
+
+    public synchronized void setGain(int handle, float gain) {
+        Voice v = voiceOf(handle);
+        if (v != null) v.gain = gain;
+    }
+
+    public synchronized boolean isPlaying(int handle) { return voiceOf(handle) != null; }
+
+    public synchronized int activeVoices() {
+        int count = 0;
+        for (Voice v : voices) if (v.active()) count++;
+        return count;
+    }
+
+    /** Rata-rata dan maksimum latensi output (ms) sejak mixer dibuka. */
+    public synchronized double averageLatencyMillis() { return latencySamples == 0 ? 0 : latencyTotalNanos / 1e6 / latencySamples; }
+    public synchronized double maxLatencyMillis() { return latencyMaxNanos / 1e6; }
+
+    /** Latensi minimum karena ukuran buffer line saja. */
+    public double bufferLatencyMillis() { return line == null ? 0 : 1000.0 * line.getBufferSize() / FORMAT.getFrameSize() / SAMPLE_RATE; }
+
+    private Voice voiceOf(int handle) {
+        if (handle < 0) return null;
+        Voice v = voices[handle & 0xFF];
+        return v.active() && v.generation == handle >>> 8 ? v : null;
+    }
+
+    private void run() {
+        while (running) {
+            mixBlock();
+            if (line.available() >= line.getBufferSize()) underruns++;
+            line.write(out, 0, out.length); // memblokir sampai ada tempat, jadi loop ini mengikuti kecepatan speaker
+        }
+    }
+
+    private void mixBlock() {
+        java.util.Arrays.fill(mix, 0);
+        synchronized (this) {
+            // Sampel yang di-mix sekarang baru terdengar setelah isi buffer line sekarang habis diputar
+            long queuedNanos = (line.getBufferSize() - line.available()) / FORMAT.getFrameSize() * 1_000_000_000L / SAMPLE_RATE;
+            long now = System.nanoTime();
+            for (Voice v : voices) {
+                if (!v.active()) continue;
+                if (v.triggeredAt != 0) {
+                    long latency = now - v.triggeredAt + queuedNanos;
+                    latencySamples++;
+                    latencyTotalNanos += latency;
+                    latencyMaxNanos = Math.max(latencyMaxNanos, latency);
+                    v.triggeredAt = 0;
+                }
+                mixVoice(v);
+            }
+        }
+        for (int i = 0; i < mix.length; i++) {
+            int s = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            out[i * 2] = (byte) s;
+            out[i * 2 + 1] = (byte) (s >> 8);
+        }
+    }
+
+    private void mixVoice(Voice v) {
+        short[] samples = v.samples;
+        int gain = (int) (v.gain * 256), pos = v.position, i = 0;
+        while (i < mix.length) {
+            if (pos >= samples.length) {
+                if (!v.loop) { v.samples = null; return; }
+                pos = 0;
+            }
+            int n = Math.min(mix.length - i, samples.length - pos);
+            for (int k = 0; k < n; k++) mix[i + k] += (samples[pos + k] * gain) >> 8;
+            i += n;
+            pos += n;
+        }
+        v.position = pos;
+    }
+}
@@ -0,0 +1,140 @@
+package GameCommon;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pengawas responsivitas EDT. Thread watchdog mengirim satu probe ke antrian event setiap PROBE_MILLIS;
+ * selisih waktu kirim dan waktu jalannya probe = latensi event EDT. Durasi paint dilaporkan sendiri oleh
+ * panel lewat recordPaint(). Keduanya masuk LatencyHistogram dengan jendela geser (dua jendela WINDOW_MILLIS).
+ *
+ * Kalau probe belum jalan lebih dari ambang stall, watchdog mengambil sampel stack EDT tiap PROBE_MILLIS
+ * (maksimal MAX_STACK_SAMPLES) dan mencetaknya ke konsol, jadi terlihat kode mana yang memblokir.
+ * F3 menyalakan/mematikan overlay p50/p99 di panel yang didaftarkan lewat watch().
+ */
+public final class EdtMonitor {
+    private static final long PROBE_MILLIS = 50, WINDOW_MILLIS = 5000;
+    private static final int MAX_STACK_SAMPLES = 5, STACK_DEPTH = 12;
+    private static final Font OVERLAY_FONT = new Font("Monospaced", Font.BOLD, 12);
+
+    private static EdtMonitor instance;
+
+    // Diakses hanya di EDT
+    private LatencyHistogram eventNow = new LatencyHistogram(), eventPrev = new LatencyHistogram();
+    private LatencyHistogram paintNow = new LatencyHistogram(), paintPrev = new LatencyHistogram();
+    private long windowStart = System.nanoTime();
+    private final List<JComponent> watched = new ArrayList<>();
+    private boolean overlayVisible = false;
+    private long probes = 0;
+
+    private final long stallNanos;
+    private volatile long probePostedAt = 0; // 0 = tidak ada probe yang menunggu
+    private volatile Thread edt;
+    public volatile long stalls = 0;
+    private final Runnable probe = this::probeArrived;
+
+    private EdtMonitor(long stallMillis) {
+        this.stallNanos = stallMillis * 1_000_000L;
+    }
+
+    /** Pasang monitor sekali per proses; panggil lagi aman (mengembalikan yang sudah ada). */
+    public static synchronized EdtMonitor install(long stallMillis) {
+        if (instance != null) return instance;
+        instance = new EdtMonitor(stallMillis);
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(e -> {
+            if (e.getID() != KeyEvent.KEY_PRESSED || e.getKeyCode() != KeyEvent.VK_F3) return false;
+            instance.toggleOverlay();
+            return true;
+        });
+        Thread watchdog = new Thread(instance::watch, "edt-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+        return instance;
+    }
+
+    /** Catat durasi satu paint (nanodetik). Tidak melakukan apa-apa kalau monitor belum dipasang. */
+    public static void recordPaint(long nanos) {
+        if (instance != null) instance.paintNow.recordNanos(nanos);
+    }
+
+    /** Daftarkan panel yang menggambar overlay; panel ini di-repaint berkala selama overlay tampil. */
+    public static void watch(JComponent component) {
+        if (instance != null) instance.watched.add(component);
+    }
+
+    /** Gambar overlay di pojok kiri bawah kalau sedang dinyalakan (F3). Dipanggil di akhir paint panel. */
+    public static void drawOverlay(Graphics2D g, int width, int height) {
+        if (instance == null || !instance.overlayVisible) return;
+        EdtMonitor m = instance;
+        String[] lines = {
+                String.format("EDT   p50 %6.2f  p99 %6.2f  max %6.1f ms", m.eventNow.percentileMillis(50, m.eventPrev), m.eventNow.percentileMillis(99, m.eventPrev), Math.max(m.eventNow.maxMillis(), m.eventPrev.maxMillis())),
+                String.format("Paint p50 %6.2f  p99 %6.2f  max %6.1f ms", m.paintNow.percentileMillis(50, m.paintPrev), m.paintNow.percentileMillis(99, m.paintPrev), Math.max(m.paintNow.maxMillis(), m.paintPrev.maxMillis())),
+                "Stall > " + m.stallNanos / 1_000_000 + " ms: " + m.stalls + "   (F3)"
+        };
+        g.setFont(OVERLAY_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        int lh = fm.getHeight(), boxW = 0;
+        for (String line : lines) boxW = Math.max(boxW, fm.stringWidth(line));
+        int x = 8, y = height - lines.length * lh - 16;
+        g.setColor(new Color(0, 0, 0, 170));
+        g.fillRect(x, y, boxW + 12, lines.length * lh + 8);
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < lines.length; i++) g.drawString(lines[i], x + 6, y + 4 + fm.getAscent() + i * lh);
+    }
+
+    private void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        for (JComponent c : watched) c.repaint();
+    }
+
+    // Jalan di EDT
+    private void probeArrived() {
+        long now = System.nanoTime();
+        edt = Thread.currentThread();
+        eventNow.recordNanos(now - probePostedAt);
+        probePostedAt = 0;
+        if (now - windowStart >= WINDOW_MILLIS * 1_000_000L) {
+            LatencyHistogram e = eventPrev; eventPrev = eventNow; eventNow = e; eventNow.clear();
+            LatencyHistogram p = paintPrev; paintPrev = paintNow; paintNow = p; paintNow.clear();
+            windowStart = now;
+        }
+        // Overlay diperbarui kira-kira 4x per detik
+        if (overlayVisible && ++probes % 5 == 0) for (JComponent c : watched) c.repaint();
+    }
+
+    private void watch() {
+        long stallStart = 0;
+        int samples = 0;
+        while (true) {
+            LockSupport.parkNanos(PROBE_MILLIS * 1_000_000L);
+            long posted = probePostedAt, now = System.nanoTime();
+            if (posted == 0) {
+                if (stallStart != 0) {
+                    System.err.printf("[EDT] stall selesai setelah %d ms%n", (now - stallStart) / 1_000_000);
+                    stallStart = 0;
+                }
+                probePostedAt = System.nanoTime();
+                EventQueue.invokeLater(probe);
+            } else if (now - posted > stallNanos) {
+                if (stallStart == 0) {
+                    stallStart = posted;
+                    samples = 0;
+                    stalls++;
+                }
+                if (samples < MAX_STACK_SAMPLES && edt != null) logStack(++samples, (now - posted) / 1_000_000);
+            }
+        }
+    }
+
+    private void logStack(int sample, long blockedMillis) {
+        StackTraceElement[] stack = edt.getStackTrace();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[EDT] macet %d ms (sampel %d/%d):%n", blockedMillis, sample, MAX_STACK_SAMPLES));
+        for (int i = 0; i < Math.min(STACK_DEPTH, stack.length); i++) sb.append("    at ").append(stack[i]).append(System.lineSeparator());
+        System.err.print(sb);
+    }
+}
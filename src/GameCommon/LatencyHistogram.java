@@ -0,0 +1,56 @@
+package GameCommon;
+
+/**
+ * Histogram durasi dengan bucket log-linear dalam mikrodetik: di bawah 64 us tiap bucket selebar 1 us,
+ * di atasnya tiap kelipatan dua dibagi 32 bucket (galat paling banyak ~3%). record() hanya menaikkan satu
+ * angka di array, tanpa alokasi, jadi aman dipanggil di setiap event dan setiap paint.
+ * Tidak thread-safe: pakai dari satu thread saja (di sini EDT).
+ */
+public final class LatencyHistogram {
+    private static final int LINEAR = 64, SUB_BITS = 5, SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = LINEAR + (63 - 6) * SUB;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total = 0, maxMicros = 0;
+
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts[bucket(micros)]++;
+        total++;
+        if (micros > maxMicros) maxMicros = micros;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(counts, 0);
+        total = maxMicros = 0;
+    }
+
+    public long count() { return total; }
+
+    public double maxMillis() { return maxMicros / 1000.0; }
+
+    /** Persentil (0-100) dalam milidetik, gabungan histogram ini dan other (boleh null). */
+    public double percentileMillis(double percentile, LatencyHistogram other) {
+        long all = total + (other == null ? 0 : other.total);
+        if (all == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(all * percentile / 100.0)), seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i] + (other == null ? 0 : other.counts[i]);
+            if (seen >= rank) return upperMicros(i) / 1000.0;
+        }
+        return maxMillis();
+    }
+
+    private static int bucket(long micros) {
+        if (micros < LINEAR) return (int) micros;
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & (SUB - 1);
+        return Math.min(BUCKETS - 1, LINEAR + (exponent - 6) * SUB + sub);
+    }
+
+    private static long upperMicros(int bucket) {
+        if (bucket < LINEAR) return bucket;
+        int exponent = (bucket - LINEAR) / SUB + 6, sub = (bucket - LINEAR) % SUB;
+        return ((long) (SUB + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,79 @@
+package GameCommon;
+
+import javax.sound.sampled.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Suara yang sudah di-decode sekali saat aset dimuat, langsung dalam format kerja AudioMixer:
+ * sampel 16-bit stereo berselang-seling (kiri, kanan, ...) pada AudioMixer.SAMPLE_RATE.
+ * Mixer cukup menjumlahkan array ini; tidak ada parsing WAV atau konversi saat suara diputar.
+ */
+public final class PcmSound {
+    public final AudioFormat sourceFormat;
+    public final short[] samples;
+
+    private PcmSound(AudioFormat sourceFormat, short[] samples) {
+        this.sourceFormat = sourceFormat;
+        this.samples = samples;
+    }
+
+    public int frameCount() { return samples.length / 2; }
+
+    public double seconds() { return frameCount() / (double) AudioMixer.SAMPLE_RATE; }
+
+    /** Decode isi file audio; format yang bukan PCM (misalnya u-law) diubah dulu ke PCM 16-bit signed. */
+    public static PcmSound decode(byte[] file) throws IOException {
+        try (AudioInputStream raw = AudioSystem.getAudioInputStream(new ByteArrayInputStream(file))) {
+            AudioFormat format = raw.getFormat();
+            AudioFormat.Encoding encoding = format.getEncoding();
+            if (encoding.equals(AudioFormat.Encoding.PCM_SIGNED) || encoding.equals(AudioFormat.Encoding.PCM_UNSIGNED)) {
+                return new PcmSound(format, toMixerFormat(format, raw.readAllBytes()));
+            }
+            AudioFormat pcm = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                    format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm, raw)) {
+                return new PcmSound(format, toMixerFormat(pcm, converted.readAllBytes()));
+            }
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            throw new IOException("Format audio tidak didukung: " + e.getMessage(), e);
+        }
+    }
+
+    // 8/16-bit, mono/stereo, little/big endian -> 16-bit stereo; sample rate lain diinterpolasi linear
+    private static short[] toMixerFormat(AudioFormat format, byte[] data) throws IOException {
+        int bits = format.getSampleSizeInBits(), channels = format.getChannels(), frameSize = format.getFrameSize();
+        if ((bits != 8 && bits != 16) || channels < 1 || channels > 2) throw new IOException("Format PCM tidak didukung: " + format);
+        boolean signed = format.getEncoding().equals(AudioFormat.Encoding.PCM_SIGNED), bigEndian = format.isBigEndian();
+        int frames = data.length / frameSize;
+        short[] source = new short[frames * 2];
+        for (int f = 0; f < frames; f++) {
+            for (int ch = 0; ch < 2; ch++) {
+                int offset = f * frameSize + Math.min(ch, channels - 1) * (bits / 8);
+                int sample;
+                if (bits == 8) {
+                    sample = signed ? data[offset] << 8 : ((data[offset] & 0xFF) - 128) << 8;
+                } else {
+                    int lo = data[bigEndian ? offset + 1 : offset] & 0xFF, hi = data[bigEndian ? offset : offset + 1];
+                    sample = (hi << 8) | lo;
+                    if (!signed) sample = (sample & 0xFFFF) - 32768;
+                }
+                source[f * 2 + ch] = (short) sample;
+            }
+        }
+        float rate = format.getSampleRate();
+        if (rate == AudioSystem.NOT_SPECIFIED || rate == AudioMixer.SAMPLE_RATE || frames < 2) return source;
+
+        double step = rate / AudioMixer.SAMPLE_RATE;
+        int outFrames = (int) ((frames - 1) / step) + 1;
+        short[] out = new short[outFrames * 2];
+        for (int f = 0; f < outFrames; f++) {
+            double pos = f * step;
+            int i = (int) pos;
+            double t = pos - i;
+            int j = Math.min(i + 1, frames - 1);
+            for (int ch = 0; ch < 2; ch++) out[f * 2 + ch] = (short) Math.round(source[i * 2 + ch] * (1 - t) + source[j * 2 + ch] * t);
+        }
+        return out;
+    }
+}
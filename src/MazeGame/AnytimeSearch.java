@@ -0,0 +1,137 @@
+package MazeGame;
+
+import java.util.*;
+
+/**
+ * ARA* (Anytime Repairing A*): mulai dengan Weighted A* (epsilon > 1) supaya cepat dapat jalur,
+ * lalu epsilon diturunkan sedikit demi sedikit sambil menggunakan ulang hasil pencarian sebelumnya.
+ * Biaya jalur yang ditemukan selalu paling banyak bound() kali biaya optimal.
+ */
+public class AnytimeSearch {
+    public static final double EPSILON_STEP = 0.5;
+
+    private final MazeGrid grid;
+    private final Heuristic heuristic;
+    private final PriorityQueue<int[]> open = new PriorityQueue<>(Comparator.comparingInt(a -> a[0]));
+    private final Set<MazeGrid.Cell> incons = new LinkedHashSet<>();
+    private final List<MazeGrid.Cell> closed = new ArrayList<>();
+    private double epsilon;
+    private double bound = Double.POSITIVE_INFINITY;
+
+    public long nodesVisitedCount = 0;
+    public long heapOperations = 0;
+    public int iterations = 0;
+
+    public AnytimeSearch(MazeGrid grid, double startEpsilon) {
+        this.grid = grid;
+        this.epsilon = Math.max(1.0, startEpsilon);
+        this.heuristic = Heuristic.Kind.MANHATTAN.bind(grid, grid.endIndex(), TerrainCosts.DEFAULT);
+        grid.resetSolverData();
+        grid.startNode.gCost = 0;
+        push(grid.startNode);
+    }
+
+    /** Jalankan ARA* tanpa animasi sampai jalur optimal terbukti atau batas waktu habis. */
+    public static AnytimeSearch run(MazeGrid grid, double startEpsilon, long budgetMillis) {
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        AnytimeSearch search = new AnytimeSearch(grid, startEpsilon);
+        if (!grid.isReachable(grid.startNode, grid.endNode)) return search;
+        while (search.improvePath(deadline) && search.hasPath() && !search.isOptimal()) search.nextIteration();
+        return search;
+    }
+
+    /** Satu putaran ImprovePath. Mengembalikan false kalau deadline lewat sebelum putaran selesai. */
+    public boolean improvePath(long deadlineNanos) {
+        MazeGrid.Cell end = grid.endNode;
+        while (true) {
+            int minKey = minOpenKey();
+            if (minKey == Integer.MAX_VALUE || end.gCost <= minKey) break;
+            if ((nodesVisitedCount & 63) == 0 && System.nanoTime() > deadlineNanos) return false;
+
+            int[] entry = open.poll();
+            heapOperations++;
+            MazeGrid.Cell curr = grid.cells[entry[1]][entry[2]];
+            curr.visitedSolve = true;
+            closed.add(curr);
+            nodesVisitedCount++;
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (curr.walls[dir]) continue;
+                MazeGrid.Cell next = grid.neighbor(curr, dir);
+                if (next == null) continue;
+                int newGCost = curr.gCost + next.weight;
+                if (newGCost < next.gCost) {
+                    next.gCost = newGCost;
+                    next.parent = curr;
+                    if (!next.visitedSolve) push(next);
+                    else incons.add(next);
+                }
+            }
+        }
+        iterations++;
+        updateBound();
+        return true;
+    }
+
+    /** Turunkan epsilon dan siapkan putaran berikutnya (OPEN := OPEN + INCONS, CLOSED := kosong). */
+    public void nextIteration() {
+        epsilon = Math.max(1.0, epsilon - EPSILON_STEP);
+        Set<MazeGrid.Cell> pending = new LinkedHashSet<>(incons);
+        for (int[] entry : open) {
+            MazeGrid.Cell cell = grid.cells[entry[1]][entry[2]];
+            if (!isStale(entry, cell)) pending.add(cell);
+        }
+        for (MazeGrid.Cell cell : closed) cell.visitedSolve = false;
+        closed.clear();
+        incons.clear();
+        open.clear();
+        for (MazeGrid.Cell cell : pending) push(cell);
+    }
+
+    public boolean hasPath() { return grid.endNode.gCost != Integer.MAX_VALUE; }
+    public boolean isOptimal() { return hasPath() && bound <= 1.0; }
+    public double getEpsilon() { return epsilon; }
+    public double bound() { return bound; }
+    public int pathCost() { return grid.endNode.gCost; }
+
+    public List<MazeGrid.Cell> currentPath() {
+        List<MazeGrid.Cell> path = new ArrayList<>();
+        if (!hasPath()) return path;
+        for (MazeGrid.Cell curr = grid.endNode; curr != null; curr = curr.parent) path.add(curr);
+        return path;
+    }
+
+    private void push(MazeGrid.Cell cell) {
+        cell.fCost = cell.gCost + (int) (epsilon * h(cell));
+        open.add(new int[]{cell.fCost, cell.r, cell.c});
+        heapOperations++;
+    }
+
+    private int h(MazeGrid.Cell cell) { return heuristic.estimate(grid.index(cell)); }
+
+    private boolean isStale(int[] entry, MazeGrid.Cell cell) {
+        return cell.visitedSolve || entry[0] != cell.fCost;
+    }
+
+    private int minOpenKey() {
+        while (!open.isEmpty()) {
+            int[] top = open.peek();
+            if (!isStale(top, grid.cells[top[1]][top[2]])) return top[0];
+            open.poll();
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    // epsilon' = min(epsilon, g(goal) / min(g + h) di OPEN dan INCONS)
+    private void updateBound() {
+        if (!hasPath()) { bound = Double.POSITIVE_INFINITY; return; }
+        long minGH = Long.MAX_VALUE;
+        for (int[] entry : open) {
+            MazeGrid.Cell cell = grid.cells[entry[1]][entry[2]];
+            if (!isStale(entry, cell)) minGH = Math.min(minGH, (long) cell.gCost + h(cell));
+        }
+        for (MazeGrid.Cell cell : incons) minGH = Math.min(minGH, (long) cell.gCost + h(cell));
+        if (minGH == Long.MAX_VALUE) bound = 1.0;
+        else bound = Math.max(1.0, Math.min(epsilon, (double) pathCost() / minGH));
+    }
+}
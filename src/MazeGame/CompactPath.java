@@ -0,0 +1,172 @@
+package MazeGame;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Jalur yang disimpan ringkas: indeks sel awal lalu arah tiap langkah (2 bit, urutan sama dengan walls),
+ * dipadatkan per run (arah yang sama berturut-turut jadi satu angka). Di sampingnya ada prefix sum biaya,
+ * jadi biaya dari start sampai langkah ke-i cukup satu baca array.
+ * Format file: magic "PATH" | versi (short) | start (long) | jumlah langkah (int) | jumlah run (int) | run (varint).
+ */
+public class CompactPath {
+    public static final int MAGIC = 0x50415448;
+    public static final short VERSION = 1;
+
+    private final MazeStore maze;
+    private final TerrainCosts costs;
+    private final long start;
+    private long end;
+    private int steps = 0;
+    // run = (panjang << 2) | arah; runStep/runCell = langkah dan sel tempat run itu dimulai
+    private int[] runs = new int[8];
+    private int[] runStep = new int[8];
+    private long[] runCell = new long[8];
+    private int runCount = 0;
+    private long[] costPrefix = new long[16];
+
+    public CompactPath(MazeStore maze, long start, TerrainCosts costs) {
+        this.maze = maze;
+        this.costs = costs;
+        this.start = start;
+        this.end = start;
+    }
+
+    /** Tambah satu langkah ke arah dir dari ujung jalur sekarang. */
+    public void append(int dir) {
+        long next = maze.neighbor(end, dir);
+        if (next < 0) throw new IllegalArgumentException("Langkah keluar dari maze di langkah " + steps);
+        if (runCount > 0 && (runs[runCount - 1] & 3) == dir) {
+            runs[runCount - 1] += 4;
+        } else {
+            if (runCount == runs.length) {
+                runs = Arrays.copyOf(runs, runCount * 2);
+                runStep = Arrays.copyOf(runStep, runCount * 2);
+                runCell = Arrays.copyOf(runCell, runCount * 2);
+            }
+            runs[runCount] = 4 | dir;
+            runStep[runCount] = steps;
+            runCell[runCount] = end;
+            runCount++;
+        }
+        if (steps + 1 == costPrefix.length) costPrefix = Arrays.copyOf(costPrefix, costPrefix.length * 2);
+        costPrefix[steps + 1] = costPrefix[steps] + costs.ofBits(maze.cellBits(next));
+        steps++;
+        end = next;
+    }
+
+    public static CompactPath of(MazeStore maze, long[] cells, TerrainCosts costs) {
+        CompactPath path = new CompactPath(maze, cells[0], costs);
+        for (int i = 1; i < cells.length; i++) path.append(directionBetween(maze, cells[i - 1], cells[i]));
+        return path;
+    }
+
+    /** Susun jalur dari parent pointer hasil solver (berjalan mundur dari end ke start). */
+    public static CompactPath fromParents(MazeGrid grid, MazeGrid.Cell end, TerrainCosts costs) {
+        int length = 0;
+        for (MazeGrid.Cell c = end; c.parent != null; c = c.parent) length++;
+        byte[] dirs = new byte[length];
+        MazeGrid.Cell first = end;
+        for (int i = length - 1; i >= 0; i--, first = first.parent) {
+            dirs[i] = (byte) directionBetween(grid, grid.index(first.parent), grid.index(first));
+        }
+        CompactPath path = new CompactPath(grid, grid.index(first), costs);
+        for (byte dir : dirs) path.append(dir);
+        return path;
+    }
+
+    public long start() { return start; }
+    public long end() { return end; }
+    public int steps() { return steps; }
+    public int runCount() { return runCount; }
+    public long totalCost() { return costPrefix[steps]; }
+
+    /** Biaya dari start sampai langkah ke-step (0 = di start), O(1). */
+    public long costTo(int step) { return costPrefix[step]; }
+
+    /** Sel pada langkah ke-step; cari run-nya dengan binary search lalu maju di dalam run. */
+    public long cellAt(int step) {
+        if (step == 0) return start;
+        int run = Arrays.binarySearch(runStep, 0, runCount, step);
+        if (run < 0) run = -run - 2;
+        int dir = runs[run] & 3;
+        long offset = step - runStep[run];
+        return runCell[run] + offset * ((long) MazeGrid.DR[dir] * maze.cols() + MazeGrid.DC[dir]);
+    }
+
+    public long[] toIndices() {
+        long[] cells = new long[steps + 1];
+        int i = 0;
+        cells[i++] = start;
+        for (int r = 0; r < runCount; r++) {
+            int dir = runs[r] & 3, length = runs[r] >>> 2;
+            long delta = (long) MazeGrid.DR[dir] * maze.cols() + MazeGrid.DC[dir];
+            for (int k = 1; k <= length; k++) cells[i++] = runCell[r] + k * delta;
+        }
+        return cells;
+    }
+
+    /** Langkah pertama tempat dua jalur berada di sel berbeda, atau -1 kalau salah satunya awalan dari yang lain. */
+    public int divergesFrom(CompactPath other) {
+        int limit = Math.min(steps, other.steps);
+        for (int i = 0; i <= limit; i++) if (cellAt(i) != other.cellAt(i)) return i;
+        return -1;
+    }
+
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(start);
+            out.writeInt(steps);
+            out.writeInt(runCount);
+            for (int r = 0; r < runCount; r++) writeVarInt(out, runs[r]);
+        }
+    }
+
+    /** Biaya dihitung ulang dari maze yang diberikan, jadi file tetap kecil. */
+    public static CompactPath load(Path file, MazeStore maze, TerrainCosts costs) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Bukan file jalur");
+            short version = in.readShort();
+            if (version != VERSION) throw new IOException("Versi file jalur tidak didukung: " + version);
+            long start = in.readLong();
+            int steps = in.readInt(), runCount = in.readInt();
+            if (start < 0 || start >= maze.cellCount()) throw new IOException("Start di luar maze: " + start);
+            CompactPath path = new CompactPath(maze, start, costs);
+            for (int r = 0; r < runCount; r++) {
+                int run = readVarInt(in);
+                for (int k = run >>> 2; k > 0; k--) path.append(run & 3);
+            }
+            if (path.steps != steps) throw new IOException("Jumlah langkah tidak cocok");
+            return path;
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Jalur tidak cocok dengan maze: " + e.getMessage());
+        }
+    }
+
+    private static int directionBetween(MazeStore maze, long from, long to) {
+        for (int dir = 0; dir < 4; dir++) if (maze.neighbor(from, dir) == to) return dir;
+        throw new IllegalArgumentException("Sel " + from + " dan " + to + " tidak bersebelahan");
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Varint rusak");
+    }
+}
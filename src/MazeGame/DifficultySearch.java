@@ -0,0 +1,114 @@
+package MazeGame;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cari maze yang tingkat kesulitannya masuk rentang target: banyak seed dicoba paralel di semua core,
+ * tiap maze diselesaikan headless dengan Dijkstra lalu diukur. Hasilnya selalu seed dengan nomor percobaan
+ * terkecil yang cocok (jadi tetap sama berapa pun jumlah thread-nya); begitu ada yang cocok,
+ * percobaan dengan nomor lebih besar tidak diambil lagi dan semua thread cepat berhenti.
+ * Thread pencari adalah daemon dan setiap percobaan memeriksa flag cancelled, jadi pencarian yang sudah
+ * tidak dibutuhkan bisa dihentikan tanpa menahan JVM.
+ */
+public class DifficultySearch {
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    public static class Target {
+        public long minCost = 0, maxCost = Long.MAX_VALUE;
+        public double minDeadEnds = 0, maxDeadEnds = 1;
+        public double minBranching = 0, maxBranching = 4;
+
+        public Target cost(long min, long max) { minCost = min; maxCost = max; return this; }
+        public Target deadEnds(double min, double max) { minDeadEnds = min; maxDeadEnds = max; return this; }
+        public Target branching(double min, double max) { minBranching = min; maxBranching = max; return this; }
+
+        boolean matches(Stats s) {
+            return s.cost >= minCost && s.cost <= maxCost
+                    && s.deadEndRatio >= minDeadEnds && s.deadEndRatio <= maxDeadEnds
+                    && s.branching >= minBranching && s.branching <= maxBranching;
+        }
+    }
+
+    /** Ukuran kesulitan satu maze. branching = rata-rata jumlah lorong terbuka per sel. */
+    public static class Stats {
+        public final long cost;
+        public final double deadEndRatio, branching;
+
+        Stats(long cost, double deadEndRatio, double branching) {
+            this.cost = cost; this.deadEndRatio = deadEndRatio; this.branching = branching;
+        }
+
+        public static Stats of(MazeStore maze) {
+            StoreSolver.Result result = StoreSolver.solve(maze, SearchMethod.DIJKSTRA);
+            long deadEnds = 0, openSides = 0, n = maze.cellCount();
+            for (long i = 0; i < n; i++) {
+                int open = 4 - Integer.bitCount(maze.cellBits(i) & 15);
+                openSides += open;
+                if (open == 1) deadEnds++;
+            }
+            return new Stats(result.cost, deadEnds / (double) n, openSides / (double) n);
+        }
+
+        @Override public String toString() {
+            return String.format("Biaya: %d | Jalan Buntu: %.0f%% | Cabang: %.2f", cost, deadEndRatio * 100, branching);
+        }
+    }
+
+    public static class Result {
+        public final MazeGrid grid;
+        public final Stats stats;
+        public final long attempts;
+
+        Result(MazeGrid grid, Stats stats, long attempts) { this.grid = grid; this.stats = stats; this.attempts = attempts; }
+    }
+
+    /** Mengembalikan null kalau tidak ada yang cocok dalam maxAttempts percobaan. */
+    public static Result find(int rows, int cols, Target target, long baseSeed, long maxAttempts) throws InterruptedException {
+        return find(rows, cols, target, baseSeed, maxAttempts, new AtomicBoolean());
+    }
+
+    /** Sama seperti di atas; begitu cancelled bernilai true, percobaan berikutnya tidak dimulai dan hasilnya null. */
+    public static Result find(int rows, int cols, Target target, long baseSeed, long maxAttempts, AtomicBoolean cancelled) throws InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "difficulty-search-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong nextAttempt = new AtomicLong(0), tried = new AtomicLong(0);
+        AtomicLong bestAttempt = new AtomicLong(Long.MAX_VALUE);
+        Result[] best = new Result[1];
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                while (!Thread.currentThread().isInterrupted() && !cancelled.get()) {
+                    long attempt = nextAttempt.getAndIncrement();
+                    if (attempt >= maxAttempts || attempt > bestAttempt.get()) return;
+                    MazeGrid grid = MazeGenerator.generate(rows, cols, baseSeed + attempt * SEED_STEP);
+                    Stats stats = Stats.of(grid);
+                    tried.incrementAndGet();
+                    if (!target.matches(stats)) continue;
+                    synchronized (best) {
+                        if (attempt < bestAttempt.get()) {
+                            bestAttempt.set(attempt);
+                            best[0] = new Result(grid, stats, attempt + 1);
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        synchronized (best) {
+            return best[0] == null || cancelled.get() ? null : new Result(best[0].grid, best[0].stats, tried.get());
+        }
+    }
+}
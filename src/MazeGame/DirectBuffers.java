@@ -0,0 +1,53 @@
+package MazeGame;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool direct ByteBuffer untuk OffHeapMaze dan scratch-nya. Direct buffer di Java 17 baru dilepas saat GC
+ * mengumpulkannya, jadi maze/race yang dibuat berulang bisa kehabisan "Direct buffer memory" walaupun
+ * semuanya sudah di-close(). Dengan pool, close() mengembalikan buffer ke sini dan alokasi berikutnya
+ * dengan ukuran yang sama memakainya lagi, jadi memori native tidak bertambah.
+ * Pool menyimpan paling banyak MAX_POOLED_BYTES buffer menganggur; kelebihannya dilepas ke GC seperti biasa.
+ */
+final class DirectBuffers {
+    static final long MAX_POOLED_BYTES = 1L << 30;
+
+    private static final Map<Integer, ArrayDeque<ByteBuffer>> idle = new HashMap<>();
+    private static long idleBytes = 0;
+
+    private DirectBuffers() { }
+
+    /** Buffer berisi nol dengan kapasitas tepat capacity, dari pool kalau ada. */
+    static ByteBuffer acquire(int capacity) {
+        ByteBuffer buffer = null;
+        synchronized (idle) {
+            ArrayDeque<ByteBuffer> free = idle.get(capacity);
+            if (free != null && !free.isEmpty()) {
+                buffer = free.pop();
+                idleBytes -= capacity;
+            }
+        }
+        if (buffer == null) return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        zero(buffer);
+        return buffer;
+    }
+
+    static void release(ByteBuffer buffer) {
+        if (buffer == null) return;
+        synchronized (idle) {
+            if (idleBytes + buffer.capacity() > MAX_POOLED_BYTES) return;
+            idle.computeIfAbsent(buffer.capacity(), c -> new ArrayDeque<>()).push(buffer);
+            idleBytes += buffer.capacity();
+        }
+    }
+
+    static void zero(ByteBuffer b) {
+        int i = 0, cap = b.capacity();
+        for (; i + Long.BYTES <= cap; i += Long.BYTES) b.putLong(i, 0L);
+        for (; i < cap; i++) b.put(i, (byte) 0);
+    }
+}
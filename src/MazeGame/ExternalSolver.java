@@ -0,0 +1,267 @@
+package MazeGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * BFS/Dijkstra out-of-core untuk maze yang tidak muat di heap. Dinding dan terrain dibaca lewat MazeStore
+ * (biasanya MappedMaze), jarak disimpan di file long yang di-mmap (biaya total bisa melebihi batas int di
+ * maze raksasa), dan frontier disimpan di bucket file (algoritma Dial, karena biaya terrain bilangan bulat
+ * kecil; jumlah bucket = biaya terbesar di TerrainCosts + 1). Setiap bucket ditulis berurutan lalu dibaca
+ * per blok yang diurutkan dulu, supaya akses ke grid dan file jarak sebisa mungkin berurutan juga. Memori
+ * heap tetap kecil: buffer tulis per bucket ditambah satu blok baca.
+ * bytesRead/bytesWritten menjumlah bucket file, file jarak (8 byte per akses) dan grid (MappedMaze.bytesRead);
+ * untuk bagian yang di-mmap ini byte yang disentuh, bukan byte yang benar-benar diambil OS dari disk.
+ */
+public class ExternalSolver implements Closeable {
+    public static final int READ_BLOCK = 1 << 20;
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    public static class Result {
+        public final String method;
+        public final boolean found;
+        public final long cost;
+        public final long pathLength;
+        public final long nodesExpanded;
+        public final long peakFrontier;
+        public final long bytesRead, bytesWritten;
+        public final long gridBytesRead; // bagian dari bytesRead yang berasal dari file maze
+        public final long nanos;
+
+        Result(String method, boolean found, long cost, long pathLength, long nodesExpanded, long peakFrontier,
+               long bytesRead, long bytesWritten, long gridBytesRead, long nanos) {
+            this.method = method; this.found = found; this.cost = cost; this.pathLength = pathLength;
+            this.nodesExpanded = nodesExpanded; this.peakFrontier = peakFrontier;
+            this.bytesRead = bytesRead; this.bytesWritten = bytesWritten; this.gridBytesRead = gridBytesRead; this.nanos = nanos;
+        }
+
+        @Override public String toString() {
+            return String.format("%s %s | Biaya: %d | Panjang: %d | Node Dicek: %d | Frontier Max: %d | Baca: %d B (grid %d B) | Tulis: %d B | %.1f ms",
+                    method, found ? "Selesai" : "Gagal", cost, pathLength, nodesExpanded, peakFrontier, bytesRead, gridBytesRead, bytesWritten, nanos / 1e6);
+        }
+    }
+
+    private final MazeStore maze;
+    private final Path workDir;
+    private final SearchMethod method;
+    private final TerrainCosts costs;
+    private final MappedLongArray dist;
+    private final DiskBucket[] buckets;
+
+    private long bytesRead = 0, bytesWritten = 0;
+    private long nodesExpanded = 0, pending = 0, peakFrontier = 0;
+
+    /** method: BFS (semua langkah berbiaya 1) atau metode berbobot (biaya terrain, tanpa heuristik). */
+    public ExternalSolver(MazeStore maze, SearchMethod method, Path workDir) throws IOException {
+        this(maze, SearchConfig.of(method), workDir);
+    }
+
+    /** Biaya langkah diambil dari config.stepCosts(); heuristik dan epsilon diabaikan. */
+    public ExternalSolver(MazeStore maze, SearchConfig config, Path workDir) throws IOException {
+        if (config.method == SearchMethod.DFS) throw new IllegalArgumentException("ExternalSolver tidak mendukung DFS");
+        this.maze = maze;
+        this.method = config.method;
+        this.costs = config.stepCosts();
+        this.workDir = workDir;
+        // Jarak disimpan sebagai d + 1 (0 = belum dikunjungi, negatif = sudah final) supaya file sparse tidak perlu diisi
+        dist = new MappedLongArray(Files.createTempFile(workDir, "dist", ".bin"), maze.cellCount());
+        buckets = new DiskBucket[costs.maxCost() + 1];
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new DiskBucket(Files.createTempFile(workDir, "bucket" + i, ".bin"));
+    }
+
+    public static Result solve(MazeStore maze, SearchMethod method, Path workDir) throws IOException {
+        return solve(maze, SearchConfig.of(method), workDir);
+    }
+
+    public static Result solve(MazeStore maze, SearchConfig config, Path workDir) throws IOException {
+        try (ExternalSolver solver = new ExternalSolver(maze, config, workDir)) {
+            return solver.run();
+        }
+    }
+
+    public Result run() throws IOException {
+        long t0 = System.nanoTime();
+        long gridBefore = gridBytesRead();
+        long start = maze.startIndex();
+        long end = maze.endIndex();
+        dist.set(start, 1);
+        append(0, start);
+
+        long[] block = new long[(int) Math.min(READ_BLOCK, Math.max(1, maze.cellCount()))];
+        long d = 0, idle = 0, cost = -1;
+        boolean found = false;
+        while (pending > 0 && !found) {
+            DiskBucket bucket = buckets[(int) (d % buckets.length)];
+            if (bucket.count == 0) { d++; if (++idle > buckets.length) break; continue; }
+            idle = 0;
+            bucket.flush();
+            pending -= bucket.count;
+            bucket.startReading();
+            int len;
+            while (!found && (len = bucket.readBlock(block)) > 0) {
+                Arrays.sort(block, 0, len);
+                for (int i = 0; i < len && !found; i++) {
+                    long u = block[i];
+                    if (i > 0 && block[i - 1] == u) continue;
+                    if (dist.get(u) != d + 1) continue;
+                    dist.set(u, -(d + 1));
+                    nodesExpanded++;
+                    if (u == end) { found = true; cost = d; break; }
+                    relax(u, d);
+                }
+            }
+            bucket.reset();
+            d++;
+        }
+        long pathLength = found ? tracePathLength(start, end) : 0;
+        long grid = gridBytesRead() - gridBefore;
+        return new Result(method.name(), found, cost, pathLength, nodesExpanded, peakFrontier,
+                bytesRead + dist.bytesRead + grid, bytesWritten + dist.bytesWritten, grid, System.nanoTime() - t0);
+    }
+
+    // Maze di memori (MazeGrid, OffHeapMaze) tidak membaca disk
+    private long gridBytesRead() {
+        return maze instanceof MappedMaze ? ((MappedMaze) maze).bytesRead() : 0;
+    }
+
+    private void relax(long u, long d) throws IOException {
+        int bits = maze.cellBits(u);
+        for (int dir = 0; dir < 4; dir++) {
+            if ((bits & (1 << dir)) != 0) continue;
+            long v = maze.neighbor(u, dir);
+            if (v < 0) continue;
+            long stored = dist.get(v);
+            if (stored < 0) continue;
+            long nd = d + costs.ofBits(maze.cellBits(v));
+            if (stored == 0 || nd + 1 < stored) {
+                dist.set(v, nd + 1);
+                append(nd, v);
+            }
+        }
+    }
+
+    // Jalur dilacak mundur dari end lewat tetangga final dengan jarak yang pas, jadi tidak perlu array parent
+    private long tracePathLength(long start, long end) {
+        long length = 1;
+        long u = end;
+        while (u != start) {
+            long du = -dist.get(u) - 1;
+            long step = costs.ofBits(maze.cellBits(u));
+            int bits = maze.cellBits(u);
+            long next = -1;
+            for (int dir = 0; dir < 4 && next < 0; dir++) {
+                if ((bits & (1 << dir)) != 0) continue;
+                long v = maze.neighbor(u, dir);
+                if (v < 0) continue;
+                long stored = dist.get(v);
+                if (stored < 0 && -stored - 1 == du - step) next = v;
+            }
+            if (next < 0) break;
+            u = next;
+            length++;
+        }
+        return length;
+    }
+
+    private void append(long distance, long cell) throws IOException {
+        buckets[(int) (distance % buckets.length)].append(cell);
+        pending++;
+        peakFrontier = Math.max(peakFrontier, pending);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DiskBucket bucket : buckets) if (bucket != null) bucket.close();
+        dist.close();
+    }
+
+    /** Antrian sel di file: ditulis append berurutan, dibaca berurutan per blok, lalu dikosongkan. */
+    private class DiskBucket implements Closeable {
+        private final Path file;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER);
+        private long count = 0;
+        private long readPos = 0;
+
+        DiskBucket(Path file) throws IOException {
+            this.file = file;
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        void append(long cell) throws IOException {
+            if (buffer.remaining() < Long.BYTES) flush();
+            buffer.putLong(cell);
+            count++;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) bytesWritten += channel.write(buffer, channel.size());
+            buffer.clear();
+        }
+
+        void startReading() { readPos = 0; }
+
+        int readBlock(long[] dst) throws IOException {
+            int n = 0;
+            while (n < dst.length) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), (long) (dst.length - n) * Long.BYTES));
+                int got = channel.read(buffer, readPos);
+                if (got <= 0) break;
+                readPos += got;
+                bytesRead += got;
+                buffer.flip();
+                while (buffer.remaining() >= Long.BYTES) dst[n++] = buffer.getLong();
+            }
+            buffer.clear();
+            return n;
+        }
+
+        void reset() throws IOException {
+            channel.truncate(0);
+            buffer.clear();
+            count = 0;
+        }
+
+        @Override public void close() throws IOException {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** Array long panjang (index long) yang tinggal di file yang di-mmap per potongan 1 GB. */
+    static class MappedLongArray implements Closeable {
+        private static final int SHIFT = 27; // 2^27 long = 1 GB per potongan
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer[] chunks;
+        long bytesRead = 0, bytesWritten = 0;
+
+        MappedLongArray(Path file, long length) throws IOException {
+            this.file = file;
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int count = (int) ((length + (1L << SHIFT) - 1) >>> SHIFT);
+            chunks = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long longs = Math.min(1L << SHIFT, length - ((long) i << SHIFT));
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, ((long) i << SHIFT) * Long.BYTES, longs * Long.BYTES);
+            }
+        }
+
+        long get(long i) { bytesRead += Long.BYTES; return chunks[(int) (i >>> SHIFT)].getLong((int) (i & ((1L << SHIFT) - 1)) * Long.BYTES); }
+        void set(long i, long v) { bytesWritten += Long.BYTES; chunks[(int) (i >>> SHIFT)].putLong((int) (i & ((1L << SHIFT) - 1)) * Long.BYTES, v); }
+
+        @Override public void close() throws IOException {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package MazeGame;
+
+import java.util.Arrays;
+
+/**
+ * Perkiraan biaya dari sebuah sel ke goal, sudah terikat ke satu maze dan satu goal. Dibuat sekali per
+ * pencarian lewat Kind.bind, jadi loop utama tidak perlu memilih jenis heuristik di setiap node.
+ */
+public interface Heuristic {
+    int estimate(long index);
+
+    /** Weighted A*: heuristik digembungkan supaya pencarian lebih rakus (tidak lagi dijamin optimal). */
+    default Heuristic weighted(double epsilon) {
+        if (epsilon == 1.0) return this;
+        return index -> (int) (epsilon * estimate(index));
+    }
+
+    enum Kind {
+        ZERO("Nol") {
+            @Override public Heuristic bind(MazeStore maze, long goal, TerrainCosts costs) { return index -> 0; }
+        },
+        MANHATTAN("Manhattan") {
+            @Override public Heuristic bind(MazeStore maze, long goal, TerrainCosts costs) {
+                int cols = maze.cols(), gr = (int) (goal / cols), gc = (int) (goal % cols), scale = costs.minCost();
+                return index -> scale * (Math.abs((int) (index / cols) - gr) + Math.abs((int) (index % cols) - gc));
+            }
+        },
+        // Lebih lemah dari Manhattan karena maze hanya 4 arah, tapi tetap admissible
+        OCTILE("Octile") {
+            @Override public Heuristic bind(MazeStore maze, long goal, TerrainCosts costs) {
+                int cols = maze.cols(), gr = (int) (goal / cols), gc = (int) (goal % cols), scale = costs.minCost();
+                return index -> {
+                    int dr = Math.abs((int) (index / cols) - gr), dc = Math.abs((int) (index % cols) - gc);
+                    return (int) (scale * (Math.max(dr, dc) + (Math.sqrt(2) - 1) * Math.min(dr, dc)));
+                };
+            }
+        },
+        LANDMARK("Landmark") {
+            @Override public Heuristic bind(MazeStore maze, long goal, TerrainCosts costs) { return new Landmarks(maze, goal, costs); }
+        };
+
+        public final String label;
+
+        Kind(String label) { this.label = label; }
+
+        public abstract Heuristic bind(MazeStore maze, long goal, TerrainCosts costs);
+
+        @Override public String toString() { return label; }
+    }
+
+    /**
+     * ALT: jarak sebenarnya dari beberapa landmark (keempat pojok) dihitung di awal, lalu batas bawah
+     * diambil dari ketidaksamaan segitiga. Biaya langkah u->v adalah biaya sel v, jadi jarak balik
+     * d(x, L) = d(L, x) - w(x) + w(L) tidak perlu Dijkstra terpisah.
+     */
+    class Landmarks implements Heuristic {
+        private static final int INF = Integer.MAX_VALUE;
+        private final int[][] dist;
+        private final int[] cost;
+        private final int goal;
+
+        Landmarks(MazeStore maze, long goal, TerrainCosts costs) {
+            if (maze.cellCount() > Integer.MAX_VALUE) throw new IllegalArgumentException("Maze terlalu besar untuk landmark");
+            int rows = maze.rows(), cols = maze.cols();
+            long[] corners = {0, cols - 1, (long) (rows - 1) * cols, (long) rows * cols - 1};
+            this.cost = costs.cellCosts(maze);
+            this.goal = (int) goal;
+            dist = new int[corners.length][];
+            for (int i = 0; i < corners.length; i++) dist[i] = distancesFrom(maze, (int) corners[i]);
+        }
+
+        @Override
+        public int estimate(long index) {
+            int v = (int) index, best = 0;
+            for (int[] d : dist) {
+                if (d[v] == INF || d[goal] == INF) continue;
+                best = Math.max(best, d[goal] - d[v]);
+                best = Math.max(best, d[v] - cost[v] - d[goal] + cost[goal]);
+            }
+            return best;
+        }
+
+        private int[] distancesFrom(MazeStore maze, int source) {
+            int[] d = new int[cost.length];
+            Arrays.fill(d, INF);
+            d[source] = 0;
+            LongMinHeap heap = new LongMinHeap();
+            heap.push(LongMinHeap.pack(0, source));
+            while (!heap.isEmpty()) {
+                long key = heap.pop();
+                int u = LongMinHeap.index(key);
+                if (LongMinHeap.priority(key) != d[u]) continue;
+                int bits = maze.cellBits(u);
+                for (int dir = 0; dir < 4; dir++) {
+                    if ((bits & (1 << dir)) != 0) continue;
+                    long v = maze.neighbor(u, dir);
+                    if (v < 0 || d[u] + cost[(int) v] >= d[(int) v]) continue;
+                    d[(int) v] = d[u] + cost[(int) v];
+                    heap.push(LongMinHeap.pack(d[(int) v], (int) v));
+                }
+            }
+            return d;
+        }
+    }
+}
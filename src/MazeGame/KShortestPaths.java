@@ -0,0 +1,268 @@
+package MazeGame;
+
+import java.util.*;
+
+/**
+ * Yen's k-shortest loopless paths dari startNode ke endNode.
+ * Pohon jalur terpendek ke endNode dihitung sekali; setiap spur path memakai ulang pohon itu
+ * (langsung kalau jalurnya tidak terblokir, atau sebagai heuristik A* yang eksak kalau terblokir).
+ */
+public class KShortestPaths {
+
+    public static class Route {
+        public final int[] nodes; // indeks sel, dari start sampai end
+        public final int cost;
+        final int deviation;
+        long seq;
+        private final int hash;
+
+        Route(int[] nodes, int cost, int deviation) {
+            this.nodes = nodes;
+            this.cost = cost;
+            this.deviation = deviation;
+            this.hash = Arrays.hashCode(nodes);
+        }
+
+        public List<MazeGrid.Cell> toCells(MazeGrid grid) {
+            List<MazeGrid.Cell> list = new ArrayList<>(nodes.length);
+            for (int idx : nodes) list.add(grid.cellAt(idx));
+            return list;
+        }
+
+        @Override public boolean equals(Object o) { return o instanceof Route && Arrays.equals(nodes, ((Route) o).nodes); }
+        @Override public int hashCode() { return hash; }
+    }
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final MazeGrid grid;
+    private final int n;
+    private final int[] weight;
+    private final int[] distToEnd, nextToEnd;
+
+    // Scratch untuk spur search, direset dengan stamp supaya tidak perlu Arrays.fill tiap spur
+    private final int[] gCost, parent, seen, banned;
+    private final int[] pos, posMark, memo, memoMark;
+    private int seenMark = 0, banMark = 0, roundMark = 0;
+    private long nextSeq = 0;
+    private final boolean[] bannedDir = new boolean[4];
+    private final LongMinHeap heap = new LongMinHeap();
+    private int[] walk = new int[64];
+
+    public long nodesVisitedCount = 0;
+
+    public long heapOperations() { return heap.operations; }
+
+    public KShortestPaths(MazeGrid grid) {
+        this.grid = grid;
+        this.n = grid.size();
+        weight = new int[n];
+        for (int i = 0; i < n; i++) weight[i] = grid.cellAt(i).weight;
+        distToEnd = new int[n];
+        nextToEnd = new int[n];
+        gCost = new int[n];
+        parent = new int[n];
+        seen = new int[n];
+        banned = new int[n];
+        pos = new int[n];
+        posMark = new int[n];
+        memo = new int[n];
+        memoMark = new int[n];
+        // Kalau start dan end beda komponen, pohon tidak perlu dibangun: find() langsung kosong
+        if (grid.isReachable(grid.startNode, grid.endNode)) buildTreeToEnd();
+    }
+
+    public List<Route> find(int k) {
+        List<Route> result = new ArrayList<>();
+        int start = grid.index(grid.startNode), end = grid.index(grid.endNode);
+        if (k <= 0 || !grid.isReachable(grid.startNode, grid.endNode)) return result;
+
+        result.add(new Route(treePath(start), distToEnd[start], 0));
+        // Kandidat dibatasi k - |A|: kandidat di luar peringkat itu tidak akan pernah terpilih,
+        // dan biaya kandidat terburuk menjadi batas untuk memangkas spur yang tidak mungkin lebih murah
+        TreeSet<Route> candidates = new TreeSet<>(Comparator.comparingInt((Route r) -> r.cost).thenComparingInt(r -> r.nodes.length).thenComparingLong(r -> r.seq));
+        Set<Route> known = new HashSet<>(result);
+
+        while (result.size() < k) {
+            Route prev = result.get(result.size() - 1);
+            int[] p = prev.nodes;
+            int[] lcp = new int[result.size()];
+            for (int j = 0; j < result.size(); j++) lcp[j] = commonPrefix(result.get(j).nodes, p);
+
+            banMark++;
+            roundMark++;
+            for (int i = 0; i < p.length; i++) { pos[p[i]] = i; posMark[p[i]] = roundMark; }
+            int rootCost = 0;
+            for (int i = 0; i < p.length - 1; i++) {
+                if (i > 0) {
+                    banned[p[i - 1]] = banMark;
+                    rootCost += weight[p[i]];
+                }
+                if (i < prev.deviation) continue;
+
+                int spur = p[i];
+                Arrays.fill(bannedDir, false);
+                for (int j = 0; j < result.size(); j++) {
+                    int[] q = result.get(j).nodes;
+                    if (lcp[j] >= i + 1 && q.length > i + 1) bannedDir[directionTo(spur, q[i + 1])] = true;
+                }
+
+                int need = k - result.size();
+                int limit = candidates.size() >= need ? candidates.last().cost - rootCost : INF;
+                if (spurLowerBound(spur) >= limit) continue;
+
+                int[] spurPath = spurPath(spur, end, i, limit);
+                if (spurPath == null) continue;
+                int[] total = new int[i + spurPath.length];
+                System.arraycopy(p, 0, total, 0, i);
+                System.arraycopy(spurPath, 0, total, i, spurPath.length);
+                Route candidate = new Route(total, rootCost + gCost[end], i);
+                if (known.add(candidate)) {
+                    candidate.seq = nextSeq++;
+                    candidates.add(candidate);
+                    while (candidates.size() > need) candidates.pollLast();
+                }
+            }
+            if (candidates.isEmpty()) break;
+            result.add(candidates.pollFirst());
+        }
+        return result;
+    }
+
+    // Dijkstra terbalik dari endNode: distToEnd[u] = biaya jalur termurah u -> end (tanpa bobot u sendiri)
+    private void buildTreeToEnd() {
+        Arrays.fill(distToEnd, INF);
+        Arrays.fill(nextToEnd, -1);
+        int end = grid.index(grid.endNode);
+        distToEnd[end] = 0;
+        heap.clear();
+        heap.push(LongMinHeap.pack(0, end));
+        while (!heap.isEmpty()) {
+            long key = heap.pop();
+            int v = LongMinHeap.index(key);
+            if (LongMinHeap.priority(key) > distToEnd[v]) continue;
+            MazeGrid.Cell cell = grid.cellAt(v);
+            for (int dir = 0; dir < 4; dir++) {
+                if (cell.walls[dir]) continue;
+                MazeGrid.Cell nb = grid.neighbor(cell, dir);
+                if (nb == null) continue;
+                int u = grid.index(nb);
+                int d = distToEnd[v] + weight[v];
+                if (d < distToEnd[u]) {
+                    distToEnd[u] = d;
+                    nextToEnd[u] = v;
+                    heap.push(LongMinHeap.pack(d, u));
+                }
+            }
+        }
+    }
+
+    private int[] treePath(int from) {
+        int len = 1;
+        for (int u = from; nextToEnd[u] != -1; u = nextToEnd[u]) len++;
+        int[] path = new int[len];
+        int i = 0;
+        for (int u = from; u != -1; u = nextToEnd[u]) path[i++] = u;
+        return path;
+    }
+
+    /** Spur path termurah spur -> end yang menghindari node root dan edge terlarang dari spur. gCost[end] berisi biayanya. */
+    private int[] spurPath(int spur, int end, int spurPos, int limit) {
+        seenMark++;
+        int first = nextToEnd[spur];
+        if (first != -1 && !bannedDir[directionTo(spur, first)] && minPrevPos(first) > spurPos) {
+            gCost[end] = distToEnd[spur];
+            return treePath(spur);
+        }
+
+        heap.clear();
+        gCost[spur] = 0;
+        parent[spur] = -1;
+        seen[spur] = seenMark;
+        heap.push(LongMinHeap.pack(distToEnd[spur], spur));
+        while (!heap.isEmpty()) {
+            long key = heap.pop();
+            int u = LongMinHeap.index(key);
+            if (LongMinHeap.priority(key) - distToEnd[u] > gCost[u]) continue;
+            if (LongMinHeap.priority(key) >= limit) return null;
+            nodesVisitedCount++;
+
+            // Sambungkan ke pohon begitu sisa jalurnya bersih: f = g + h eksak adalah minimum di OPEN
+            if (u != spur && minPrevPos(u) > spurPos) {
+                int prefixLen = 0;
+                for (int x = u; x != -1; x = parent[x]) prefixLen++;
+                int[] tail = treePath(u);
+                int[] path = new int[prefixLen - 1 + tail.length];
+                int i = prefixLen - 1;
+                for (int x = u; x != -1; x = parent[x]) path[i--] = x;
+                System.arraycopy(tail, 0, path, prefixLen - 1, tail.length);
+                gCost[end] = gCost[u] + distToEnd[u];
+                return path;
+            }
+
+            MazeGrid.Cell cell = grid.cellAt(u);
+            for (int dir = 0; dir < 4; dir++) {
+                if (cell.walls[dir] || (u == spur && bannedDir[dir])) continue;
+                MazeGrid.Cell nb = grid.neighbor(cell, dir);
+                if (nb == null) continue;
+                int v = grid.index(nb);
+                if (banned[v] == banMark || v == spur || distToEnd[v] == INF) continue;
+                int g = gCost[u] + weight[v];
+                if (seen[v] != seenMark || g < gCost[v]) {
+                    seen[v] = seenMark;
+                    gCost[v] = g;
+                    parent[v] = u;
+                    heap.push(LongMinHeap.pack(g + distToEnd[v], v));
+                }
+            }
+        }
+        return null;
+    }
+
+    // Batas bawah biaya spur: satu langkah ke tetangga yang boleh, lalu jalur pohon tanpa hambatan
+    private int spurLowerBound(int spur) {
+        MazeGrid.Cell cell = grid.cellAt(spur);
+        int best = INF;
+        for (int dir = 0; dir < 4; dir++) {
+            if (cell.walls[dir] || bannedDir[dir]) continue;
+            MazeGrid.Cell nb = grid.neighbor(cell, dir);
+            if (nb == null) continue;
+            int v = grid.index(nb);
+            if (banned[v] == banMark || distToEnd[v] == INF) continue;
+            best = Math.min(best, weight[v] + distToEnd[v]);
+        }
+        return best;
+    }
+
+    // Posisi paling awal di jalur prev yang dilewati jalur pohon dari u ke end (INF kalau tidak ada).
+    // Jalur pohon bersih untuk spur ke-i kalau nilainya > i. Hasil di-memo selama satu putaran k.
+    private int minPrevPos(int u) {
+        int len = 0, x = u, found = INF;
+        while (x != -1) {
+            if (memoMark[x] == roundMark) { found = memo[x]; break; }
+            if (len == walk.length) walk = Arrays.copyOf(walk, len * 2);
+            walk[len++] = x;
+            x = nextToEnd[x];
+        }
+        for (int i = len - 1; i >= 0; i--) {
+            int node = walk[i];
+            if (posMark[node] == roundMark) found = Math.min(found, pos[node]);
+            memo[node] = found;
+            memoMark[node] = roundMark;
+        }
+        return found;
+    }
+
+    private int directionTo(int from, int to) {
+        int diff = to - from;
+        if (diff == -grid.cols) return 0;
+        if (diff == grid.cols) return 1;
+        return diff == 1 ? 2 : 3;
+    }
+
+    private static int commonPrefix(int[] a, int[] b) {
+        int len = Math.min(a.length, b.length), i = 0;
+        while (i < len && a[i] == b[i]) i++;
+        return i;
+    }
+}
@@ -0,0 +1,55 @@
+package MazeGame;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap biner untuk kunci long tanpa boxing. Solver headless mengemas (prioritas << 32 | indeks sel)
+ * ke dalam satu long, jadi push/pop tidak membuat objek baru.
+ */
+public class LongMinHeap {
+    private long[] heap;
+    private int size = 0;
+    /** Jumlah push + pop sejak heap dibuat (clear() tidak mereset); untuk profiling. */
+    public long operations = 0;
+
+    public LongMinHeap() { this(64); }
+    public LongMinHeap(int capacity) { heap = new long[Math.max(2, capacity)]; }
+
+    public static long pack(int priority, int index) { return ((long) priority << 32) | (index & 0xFFFFFFFFL); }
+    public static int priority(long key) { return (int) (key >>> 32); }
+    public static int index(long key) { return (int) key; }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public void clear() { size = 0; }
+    public long peek() { return heap[0]; }
+
+    public void push(long key) {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        operations++;
+        int i = size++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heap[p] <= key) break;
+            heap[i] = heap[p];
+            i = p;
+        }
+        heap[i] = key;
+    }
+
+    public long pop() {
+        long top = heap[0];
+        operations++;
+        long last = heap[--size];
+        int i = 0, half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (last <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+}
@@ -0,0 +1,179 @@
+package MazeGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Maze yang dibuka langsung dari file MazeFile. Membuka file hanya membaca header (dan tabel blok),
+ * sel dibaca dari MappedByteBuffer saat diakses. Blok terkompresi di-inflate saat pertama kali dipakai
+ * dan disimpan di cache LRU kecil. Tidak thread-safe untuk file terkompresi.
+ */
+public class MappedMaze implements MazeStore, Closeable {
+    private static final int CACHED_BLOCKS = 64;
+
+    public final int rows, cols;
+    public final long seed;
+    public final int startR, startC, endR, endC;
+    public final boolean compressed;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final int blockCells;
+    private final long[] blockOffsets;
+    private final Map<Integer, byte[]> blockCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest) { return size() > CACHED_BLOCKS; }
+    };
+    private final Inflater inflater = new Inflater();
+    private long bytesRead = 0;
+
+    MappedMaze(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer h = channel.map(FileChannel.MapMode.READ_ONLY, 0, MazeFile.HEADER_SIZE);
+            if (h.getInt() != MazeFile.MAGIC) throw new IOException("Bukan file maze: " + file);
+            short version = h.getShort();
+            if (version != MazeFile.VERSION) throw new IOException("Versi format maze tidak didukung: " + version);
+            compressed = (h.getShort() & MazeFile.FLAG_COMPRESSED) != 0;
+            rows = h.getInt();
+            cols = h.getInt();
+            seed = h.getLong();
+            startR = h.getInt(); startC = h.getInt(); endR = h.getInt(); endC = h.getInt();
+            blockCells = h.getInt();
+            int blockCount = h.getInt();
+
+            // Header dicek terhadap ukuran file sebelum ada alokasi atau map, supaya file rusak ditolak dengan jelas
+            long fileSize = channel.size();
+            if (rows <= 0 || cols <= 0) throw new IOException("Ukuran maze tidak valid: " + rows + "x" + cols);
+            if (startR < 0 || startR >= rows || startC < 0 || startC >= cols || endR < 0 || endR >= rows || endC < 0 || endC >= cols) {
+                throw new IOException("Start/finish di luar maze: " + file);
+            }
+            long dataStart = MazeFile.HEADER_SIZE;
+            long dataLength = (long) rows * cols;
+            if (compressed) {
+                if (blockCells <= 0 || blockCount != (dataLength + blockCells - 1) / blockCells) {
+                    throw new IOException("Tabel blok tidak cocok dengan ukuran maze: " + blockCount + " blok x " + blockCells + " sel");
+                }
+                long tableEnd = dataStart + (long) (blockCount + 1) * Long.BYTES;
+                if (tableEnd > fileSize) throw new IOException("File maze terpotong: " + file);
+                blockOffsets = new long[blockCount + 1];
+                channel.map(FileChannel.MapMode.READ_ONLY, dataStart, tableEnd - dataStart).asLongBuffer().get(blockOffsets);
+                for (int b = 0; b <= blockCount; b++) {
+                    long prev = b == 0 ? tableEnd : blockOffsets[b - 1];
+                    if (blockOffsets[b] < prev || blockOffsets[b] > fileSize || blockOffsets[b] - prev > Integer.MAX_VALUE) {
+                        throw new IOException("Offset blok maze rusak: " + b);
+                    }
+                }
+                dataStart = 0;
+                dataLength = fileSize;
+            } else {
+                if (dataStart + dataLength > fileSize) throw new IOException("File maze terpotong: " + file);
+                blockOffsets = null;
+            }
+            int chunkCount = (int) ((dataLength + MazeFile.MAP_CHUNK - 1) / MazeFile.MAP_CHUNK);
+            chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long off = i * MazeFile.MAP_CHUNK;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataStart + off, Math.min(MazeFile.MAP_CHUNK, dataLength - off));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() { return (long) rows * cols; }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public long startIndex() { return (long) startR * cols + startC; }
+    @Override public long endIndex() { return (long) endR * cols + endC; }
+
+    /** Byte sel mentah: bit 0-3 dinding, bit 4-5 kode terrain. */
+    @Override
+    public int cellBits(long index) {
+        if (!compressed) {
+            bytesRead++;
+            return chunks[(int) (index / MazeFile.MAP_CHUNK)].get((int) (index % MazeFile.MAP_CHUNK)) & 0xFF;
+        }
+        return block((int) (index / blockCells))[(int) (index % blockCells)] & 0xFF;
+    }
+
+    /** Byte yang dibaca dari file sejauh ini: 1 per sel untuk file mentah, blok terkompresi utuh saat cache miss. */
+    public long bytesRead() { return bytesRead; }
+
+    public boolean isOpen(int r, int c, int dir) {
+        return (cellBits((long) r * cols + c) & (1 << dir)) == 0;
+    }
+
+    public int weightAt(int r, int c) {
+        return MazeFile.terrainWeight((cellBits((long) r * cols + c) >> 4) & 3);
+    }
+
+    public MazeGrid toGrid() {
+        if (size() > Integer.MAX_VALUE) throw new IllegalStateException("Maze terlalu besar untuk MazeGrid: " + rows + "x" + cols);
+        MazeGrid grid = new MazeGrid(rows, cols);
+        grid.seed = seed;
+        grid.startNode = grid.cells[startR][startC];
+        grid.endNode = grid.cells[endR][endC];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int bits = cellBits((long) r * cols + c);
+                MazeGrid.Cell cell = grid.cells[r][c];
+                cell.weight = MazeFile.terrainWeight((bits >> 4) & 3);
+                if ((bits & 2) == 0 && r + 1 < rows) grid.removeWall(cell, grid.cells[r + 1][c]);
+                if ((bits & 4) == 0 && c + 1 < cols) grid.removeWall(cell, grid.cells[r][c + 1]);
+            }
+        }
+        return grid;
+    }
+
+    private byte[] block(int b) {
+        byte[] data = blockCache.get(b);
+        if (data != null) return data;
+        long from = blockOffsets[b], to = blockOffsets[b + 1];
+        byte[] packed = new byte[(int) (to - from)];
+        bytesRead += packed.length;
+        int chunk = (int) (from / MazeFile.MAP_CHUNK);
+        if (chunk == (int) ((to - 1) / MazeFile.MAP_CHUNK)) {
+            chunks[chunk].get((int) (from % MazeFile.MAP_CHUNK), packed);
+        } else {
+            for (int i = 0; i < packed.length; i++) {
+                long p = from + i;
+                packed[i] = chunks[(int) (p / MazeFile.MAP_CHUNK)].get((int) (p % MazeFile.MAP_CHUNK));
+            }
+        }
+        long remaining = size() - (long) b * blockCells;
+        data = new byte[(int) Math.min(blockCells, remaining)];
+        try {
+            inflater.reset();
+            inflater.setInput(packed);
+            int n = 0;
+            while (n < data.length && !inflater.finished()) {
+                int got = inflater.inflate(data, n, data.length - n);
+                // Blok terpotong/rusak: inflate tidak maju lagi karena input habis atau minta dictionary
+                if (got == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                n += got;
+            }
+            if (n < data.length) throw new IllegalStateException("Blok maze rusak: " + b);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Blok maze rusak: " + b, e);
+        }
+        blockCache.put(b, data);
+        return data;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+}
@@ -0,0 +1,133 @@
+package MazeGame;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Eksperimen batch tanpa GUI: buat maze untuk setiap seed di rentang [from, from + count), jalankan semua
+ * algoritma di tiap maze, lalu tulis satu baris per (maze, algoritma) ke CSV atau JSON Lines.
+ * Tiap thread mengambil seed berikutnya sendiri dan langsung menulis hasilnya begitu selesai, jadi tidak
+ * ada hasil yang ditampung dan memori tetap sama berapa pun jumlah maze-nya. Urutan baris mengikuti
+ * selesainya pekerjaan, bukan urutan seed.
+ *
+ * Contoh: java MazeGame.MazeGameMain batch --count 1000000 --format jsonl --out hasil.jsonl
+ */
+public class MazeBatch {
+    private static final String[] CSV_HEADER = {"seed", "rows", "cols", "method", "found", "cost", "steps", "nodes_expanded", "peak_frontier", "nanos"};
+    private static final long PROGRESS_EVERY = 10_000;
+
+    static class Options {
+        long from = 0, count = 100;
+        int rows = 20, cols = 20;
+        List<SearchConfig> configs = new ArrayList<>();
+        boolean json = false;
+        String out = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Options options = parse(args);
+        OutputStream stream = options.out == null ? System.out : new FileOutputStream(options.out);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 1 << 16)) {
+            long mazes = run(options, writer);
+            System.err.println("Selesai: " + mazes + " maze, " + mazes * options.configs.size() + " baris.");
+        }
+    }
+
+    /** Mengembalikan jumlah maze yang selesai; kesalahan pertama dari thread mana pun dilempar ulang. */
+    static long run(Options options, Writer writer) throws IOException, InterruptedException {
+        if (!options.json) writer.write(String.join(",", CSV_HEADER) + "\n");
+        AtomicLong next = new AtomicLong(0), done = new AtomicLong(0);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads);
+        for (int t = 0; t < options.threads; t++) {
+            executor.submit(() -> {
+                SearchScratch scratch = SearchScratch.onHeap((long) options.rows * options.cols);
+                StringBuilder lines = new StringBuilder();
+                try {
+                    while (failure.get() == null) {
+                        long i = next.getAndIncrement();
+                        if (i >= options.count) return;
+                        long seed = options.from + i;
+                        MazeGrid grid = MazeGenerator.generate(options.rows, options.cols, seed);
+                        lines.setLength(0);
+                        for (SearchConfig config : options.configs) {
+                            StoreSolver.Result result = StoreSolver.solve(grid, config, scratch);
+                            if (options.json) appendJson(lines, seed, grid, config, result);
+                            else appendCsv(lines, seed, grid, config, result);
+                        }
+                        synchronized (writer) { writer.append(lines); }
+                        long finished = done.incrementAndGet();
+                        if (finished % PROGRESS_EVERY == 0) System.err.println(finished + " / " + options.count + " maze");
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        Throwable error = failure.get();
+        if (error instanceof IOException) throw (IOException) error;
+        if (error != null) throw new IllegalStateException("Batch gagal", error);
+        return done.get();
+    }
+
+    private static void appendCsv(StringBuilder sb, long seed, MazeGrid grid, SearchConfig config, StoreSolver.Result r) {
+        sb.append(seed).append(',').append(grid.rows).append(',').append(grid.cols).append(',')
+                .append(config).append(',').append(r.found).append(',').append(r.cost).append(',')
+                .append(Math.max(0, r.path.length - 1)).append(',').append(r.nodesExpanded).append(',')
+                .append(r.peakFrontier).append(',').append(r.nanos).append('\n');
+    }
+
+    private static void appendJson(StringBuilder sb, long seed, MazeGrid grid, SearchConfig config, StoreSolver.Result r) {
+        sb.append("{\"seed\":").append(seed).append(",\"rows\":").append(grid.rows).append(",\"cols\":").append(grid.cols)
+                .append(",\"method\":\"").append(config).append("\",\"found\":").append(r.found).append(",\"cost\":").append(r.cost)
+                .append(",\"steps\":").append(Math.max(0, r.path.length - 1)).append(",\"nodes_expanded\":").append(r.nodesExpanded)
+                .append(",\"peak_frontier\":").append(r.peakFrontier).append(",\"nanos\":").append(r.nanos).append("}\n");
+    }
+
+    static Options parse(String[] args) {
+        Options o = new Options();
+        List<SearchMethod> methods = new ArrayList<>(List.of(SearchMethod.values()));
+        Heuristic.Kind heuristic = null;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--from": o.from = Long.parseLong(value); i++; break;
+                case "--count": o.count = Long.parseLong(value); i++; break;
+                case "--size": o.rows = o.cols = Integer.parseInt(value); i++; break;
+                case "--rows": o.rows = Integer.parseInt(value); i++; break;
+                case "--cols": o.cols = Integer.parseInt(value); i++; break;
+                case "--methods": methods.clear(); for (String m : value.split(",")) methods.add(SearchMethod.valueOf(m.trim().toUpperCase(Locale.ROOT))); i++; break;
+                case "--heuristic": heuristic = Heuristic.Kind.valueOf(value.trim().toUpperCase(Locale.ROOT)); i++; break;
+                case "--format":
+                    if (!value.equals("csv") && !value.equals("jsonl")) { usage(System.err); System.exit(1); }
+                    o.json = value.equals("jsonl"); i++; break;
+                case "--threads": o.threads = Math.max(1, Integer.parseInt(value)); i++; break;
+                case "--out": o.out = value; i++; break;
+                default: usage(System.err); System.exit(1);
+            }
+        }
+        for (SearchMethod method : methods) {
+            SearchConfig config = SearchConfig.of(method);
+            if (heuristic != null && method == SearchMethod.ASTAR) config = config.withHeuristic(heuristic);
+            o.configs.add(config);
+        }
+        return o;
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("Pakai: MazeGameMain batch [--from SEED] [--count N] [--size N | --rows N --cols N]");
+        out.println("                          [--methods BFS,DFS,DIJKSTRA,ASTAR] [--heuristic MANHATTAN|OCTILE|LANDMARK|ZERO]");
+        out.println("                          [--format csv|jsonl] [--threads N] [--out file]");
+    }
+}
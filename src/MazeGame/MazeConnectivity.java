@@ -0,0 +1,44 @@
+package MazeGame;
+
+/**
+ * Union-find atas indeks sel. Setiap dinding yang dibuka menggabungkan dua komponen,
+ * jadi pertanyaan "apakah ada jalur" cukup dijawab dengan membandingkan akar komponen.
+ */
+public class MazeConnectivity {
+    private final int[] parent;
+    private final int[] size;
+    private int components;
+
+    public MazeConnectivity(int cellCount) {
+        parent = new int[cellCount];
+        size = new int[cellCount];
+        reset();
+    }
+
+    public void reset() {
+        for (int i = 0; i < parent.length; i++) { parent[i] = i; size[i] = 1; }
+        components = parent.length;
+    }
+
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    public boolean union(int a, int b) {
+        int ra = find(a), rb = find(b);
+        if (ra == rb) return false;
+        if (size[ra] < size[rb]) { int t = ra; ra = rb; rb = t; }
+        parent[rb] = ra;
+        size[ra] += size[rb];
+        components--;
+        return true;
+    }
+
+    public boolean connected(int a, int b) { return find(a) == find(b); }
+    public int componentSize(int x) { return size[find(x)]; }
+    public int componentCount() { return components; }
+}
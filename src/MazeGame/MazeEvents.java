@@ -0,0 +1,112 @@
+package MazeGame;
+
+import jdk.jfr.*;
+
+/**
+ * Event Java Flight Recorder untuk MazeGame, supaya waktu generate, search, paint dan suara bisa dilihat
+ * sejajar dengan GC dan aktivitas thread di satu rekaman. Kalau tidak sedang merekam, begin()/end() dan
+ * shouldCommit() hampir gratis (JIT menghapusnya), dan field hanya diisi setelah shouldCommit().
+ *
+ * Contoh: java -XX:StartFlightRecording=filename=maze.jfr MazeGame.MazeGameMain
+ * lalu: jfr print --events MazeGame.Search maze.jfr
+ */
+public final class MazeEvents {
+    public static final String PHASE_CARVE = "carve", PHASE_LOOPS = "loops", PHASE_TERRAIN = "terrain";
+
+    private MazeEvents() { }
+
+    @Name("MazeGame.Generation")
+    @Label("Maze Generation Phase")
+    @Category({"MazeGame", "Generation"})
+    public static class Generation extends Event {
+        @Label("Phase") String phase;
+        @Label("Rows") int rows;
+        @Label("Columns") int cols;
+        @Label("Seed") long seed;
+
+        public static Generation start() {
+            Generation event = new Generation();
+            event.begin();
+            return event;
+        }
+
+        public void finish(String phase, MazeGrid grid) {
+            end();
+            if (!shouldCommit()) return;
+            this.phase = phase; rows = grid.rows; cols = grid.cols; seed = grid.seed;
+            commit();
+        }
+    }
+
+    @Name("MazeGame.Search")
+    @Label("Maze Search")
+    @Category({"MazeGame", "Search"})
+    public static class Search extends Event {
+        @Label("Algorithm") String algorithm;
+        @Label("Animated") boolean animated;
+        @Label("Cells") long cells;
+        @Label("Found") boolean found;
+        @Label("Path Cost") long pathCost;
+        @Label("Nodes Expanded") long nodesExpanded;
+        @Label("Heap Operations") @Description("Push dan pop ke antrian prioritas (atau queue/stack untuk BFS/DFS)") long heapOperations;
+
+        public static Search start() {
+            Search event = new Search();
+            event.begin();
+            return event;
+        }
+
+        public void finish(String algorithm, boolean animated, MazeStore maze, boolean found, long pathCost, long nodesExpanded, long heapOperations) {
+            end();
+            if (!shouldCommit()) return;
+            this.algorithm = algorithm; this.animated = animated; cells = maze.cellCount();
+            this.found = found; this.pathCost = pathCost; this.nodesExpanded = nodesExpanded; this.heapOperations = heapOperations;
+            commit();
+        }
+    }
+
+    @Name("MazeGame.Paint")
+    @Label("Maze Paint")
+    @Category({"MazeGame", "Rendering"})
+    @StackTrace(false)
+    public static class Paint extends Event {
+        @Label("Cells") int cells;
+        @Label("Frame Applied") @Description("Ada frame baru dari solver yang diterapkan sebelum menggambar") boolean frameApplied;
+
+        public static Paint start() {
+            Paint event = new Paint();
+            event.begin();
+            return event;
+        }
+
+        public void finish(int cells, boolean frameApplied) {
+            end();
+            if (!shouldCommit()) return;
+            this.cells = cells; this.frameApplied = frameApplied;
+            commit();
+        }
+    }
+
+    @Name("MazeGame.Sound")
+    @Label("Sound Playback")
+    @Category({"MazeGame", "Sound"})
+    @StackTrace(false)
+    public static class Sound extends Event {
+        @Label("File") String file;
+        @Label("Music") boolean music;
+        @Label("Started") boolean started;
+
+        public static Sound start() {
+            Sound event = new Sound();
+            event.begin();
+            return event;
+        }
+
+        public void finish(String file, boolean music, boolean started) {
+            end();
+            if (!shouldCommit()) return;
+            this.file = file; this.music = music; this.started = started;
+            commit();
+        }
+    }
+}
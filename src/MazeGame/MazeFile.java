@@ -0,0 +1,130 @@
+package MazeGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+
+/**
+ * Format biner maze (versi 1). Header 64 byte:
+ *   0 magic "MAZE" | 4 versi (short) | 6 flags (short, bit 0 = blok terkompresi)
+ *   8 rows | 12 cols | 16 seed (long) | 24 startR | 28 startC | 32 endR | 36 endC
+ *   40 sel per blok | 44 jumlah blok | 48..63 cadangan
+ * Setiap sel satu byte: bit 0-3 dinding (atas, bawah, kanan, kiri), bit 4-5 terrain (rumput, lumpur, air).
+ * Tanpa kompresi, data sel langsung mengikuti header. Dengan kompresi, header diikuti tabel offset
+ * (long, jumlah blok + 1) lalu blok-blok Deflate, supaya setiap blok bisa dibaca sendiri-sendiri.
+ */
+public class MazeFile {
+    public static final int MAGIC = 0x4D415A45;
+    public static final short VERSION = 1;
+    public static final short FLAG_COMPRESSED = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int BLOCK_CELLS = 1 << 16;
+    static final long MAP_CHUNK = 1L << 30;
+
+    public static final int TERRAIN_GRASS = 0, TERRAIN_MUD = 1, TERRAIN_WATER = 2;
+
+    public static void save(MazeGrid grid, Path file, boolean compressed) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long cellCount = (long) grid.rows * grid.cols;
+            int blockCount = compressed ? (int) ((cellCount + BLOCK_CELLS - 1) / BLOCK_CELLS) : 0;
+            writeFully(ch, header(grid, compressed, blockCount), 0);
+            if (compressed) writeBlocks(grid, ch, blockCount);
+            else writeRaw(grid, ch, cellCount);
+        }
+    }
+
+    /** Buka file tanpa membaca seluruh isinya; sel dibaca langsung dari memory-mapped buffer saat diakses. */
+    public static MappedMaze open(Path file) throws IOException {
+        return new MappedMaze(file);
+    }
+
+    /** Baca seluruh maze ke MazeGrid biasa (untuk ditampilkan atau diselesaikan solver on-heap). */
+    public static MazeGrid load(Path file) throws IOException {
+        try (MappedMaze maze = open(file)) {
+            return maze.toGrid();
+        }
+    }
+
+    public static int encodeCell(MazeGrid.Cell cell) {
+        int bits = 0;
+        for (int dir = 0; dir < 4; dir++) if (cell.walls[dir]) bits |= 1 << dir;
+        return bits | (terrainCode(cell.weight) << 4);
+    }
+
+    public static int terrainCode(int weight) {
+        if (weight == MazeGrid.COST_MUD) return TERRAIN_MUD;
+        if (weight == MazeGrid.COST_WATER) return TERRAIN_WATER;
+        return TERRAIN_GRASS;
+    }
+
+    public static int terrainWeight(int code) {
+        return TerrainCosts.DEFAULT.cost(code);
+    }
+
+    private static ByteBuffer header(MazeGrid grid, boolean compressed, int blockCount) {
+        ByteBuffer h = ByteBuffer.allocate(HEADER_SIZE);
+        h.putInt(MAGIC).putShort(VERSION).putShort(compressed ? FLAG_COMPRESSED : 0);
+        h.putInt(grid.rows).putInt(grid.cols).putLong(grid.seed);
+        h.putInt(grid.startNode.r).putInt(grid.startNode.c).putInt(grid.endNode.r).putInt(grid.endNode.c);
+        h.putInt(compressed ? BLOCK_CELLS : 0).putInt(blockCount);
+        h.position(0);
+        return h;
+    }
+
+    // Region data dipetakan per potongan 1 GB karena satu MappedByteBuffer dibatasi indeks int
+    private static void writeRaw(MazeGrid grid, FileChannel ch, long cellCount) throws IOException {
+        long idx = 0;
+        while (idx < cellCount) {
+            long len = Math.min(MAP_CHUNK, cellCount - idx);
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + idx, len);
+            for (long i = 0; i < len; i++, idx++) {
+                buf.put((byte) encodeCell(grid.cells[(int) (idx / grid.cols)][(int) (idx % grid.cols)]));
+            }
+            buf.force();
+        }
+    }
+
+    private static void writeBlocks(MazeGrid grid, FileChannel ch, int blockCount) throws IOException {
+        long cellCount = (long) grid.rows * grid.cols;
+        ByteBuffer offsets = ByteBuffer.allocate((blockCount + 1) * Long.BYTES);
+        long pos = HEADER_SIZE + (long) offsets.capacity();
+        byte[] raw = new byte[BLOCK_CELLS];
+        byte[] packed = new byte[BLOCK_CELLS + 64];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (int b = 0; b < blockCount; b++) {
+                long first = (long) b * BLOCK_CELLS;
+                int len = (int) Math.min(BLOCK_CELLS, cellCount - first);
+                for (int i = 0; i < len; i++) {
+                    long idx = first + i;
+                    raw[i] = (byte) encodeCell(grid.cells[(int) (idx / grid.cols)][(int) (idx % grid.cols)]);
+                }
+                deflater.reset();
+                deflater.setInput(raw, 0, len);
+                deflater.finish();
+                int size = 0;
+                while (!deflater.finished()) {
+                    if (size == packed.length) packed = java.util.Arrays.copyOf(packed, packed.length * 2);
+                    size += deflater.deflate(packed, size, packed.length - size);
+                }
+                offsets.putLong(pos);
+                writeFully(ch, ByteBuffer.wrap(packed, 0, size), pos);
+                pos += size;
+            }
+        } finally {
+            deflater.end();
+        }
+        offsets.putLong(pos);
+        offsets.flip();
+        writeFully(ch, offsets, HEADER_SIZE);
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) position += ch.write(buf, position);
+    }
+}
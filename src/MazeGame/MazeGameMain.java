@@ -5,8 +5,14 @@ import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.InputStream;
-import java.net.URL;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import GameCommon.AssetManager;
+import GameCommon.AssetSplash;
+import GameCommon.EdtMonitor;
 
 public class MazeGameMain extends JFrame {
 
@@ -17,6 +23,23 @@ public class MazeGameMain extends JFrame {
     private MazeSolver solver;
     private JLabel lblStats;
     private int animationDelay = 20;
+    // Flag batal pencarian World Target yang sedang jalan (hanya disentuh EDT); permintaan baru membatalkan yang lama
+    private AtomicBoolean targetSearch;
+
+    private static final double ARA_START_EPSILON = 3.0;
+    private static final long ARA_BUDGET_MS = 3000;
+    private static final int K_PATHS = 5;
+    private static final int AGENT_COUNT = 30;
+    private static final int AGENT_WINDOW = 8;
+    private static final int MAX_VIEW_CELLS = 200 * 200;
+    private static final int ACTIVE_FPS = 60;
+    // EDT yang diam lebih lama dari ini dianggap macet dan stack-nya dicatat (F3 = overlay p50/p99)
+    private static final long STALL_MILLIS = 250;
+    private static final long TARGET_MAX_ATTEMPTS = 200_000;
+
+    public static final String ASSET_PATH = "/MazeGame/assets/";
+    static final List<String> ASSETS = AssetManager.list(ASSET_PATH, "Minecraft.ttf", "menu_bg.png", "grass.png", "mud.png", "water.png",
+            "wall.png", "player1.png", "player2.png", "player3.png", "player4.png", "player5.png", "step.wav", "win.wav");
 
     public static Font mcFont = new Font("Monospaced", Font.BOLD, 14);
 
@@ -24,8 +47,14 @@ public class MazeGameMain extends JFrame {
     private final int MAX_SKINS = 5;
     private JLabel lblSkinPreview;
 
-    public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> new MazeGameMain().setVisible(true));
+    public static void main(String[] args) throws Exception {
+        // "batch" menjalankan eksperimen tanpa GUI (lihat MazeBatch)
+        if (args.length > 0 && args[0].equals("batch")) {
+            MazeBatch.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        EdtMonitor.install(STALL_MILLIS);
+        AssetSplash.show("Block Breakout", ASSETS, () -> new MazeGameMain().setVisible(true));
     }
 
     public MazeGameMain() {
@@ -55,28 +84,20 @@ public class MazeGameMain extends JFrame {
     }
 
     private void loadMinecraftFont() {
-        try {
-            InputStream is = getClass().getResourceAsStream("/MazeGame/assets/Minecraft.ttf");
-            if (is == null) is = getClass().getResourceAsStream("assets/Minecraft.ttf");
-
-            if (is != null) {
-                Font ttfBase = Font.createFont(Font.TRUETYPE_FONT, is);
-                GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-                ge.registerFont(ttfBase);
-                mcFont = ttfBase.deriveFont(16f);
-            }
-        } catch (Exception e) { }
+        Font ttfBase = AssetManager.font(ASSET_PATH + "Minecraft.ttf");
+        if (ttfBase != null) mcFont = ttfBase.deriveFont(16f);
     }
 
     private JPanel createMenuPanel() {
         JPanel menu = new JPanel() {
+            private final AssetManager.Backdrop backdrop = new AssetManager.Backdrop(ASSET_PATH + "menu_bg.png");
+
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                URL bgUrl = getClass().getResource("assets/menu_bg.png");
-                if (bgUrl != null) {
-                    ImageIcon icon = new ImageIcon(bgUrl);
-                    g.drawImage(icon.getImage(), 0, 0, getWidth(), getHeight(), this);
+                BufferedImage bg = backdrop.at(getWidth(), getHeight());
+                if (bg != null) {
+                    g.drawImage(bg, 0, 0, this);
                 } else {
                     g.setColor(new Color(66, 40, 24));
                     g.fillRect(0, 0, getWidth(), getHeight());
@@ -133,7 +154,7 @@ public class MazeGameMain extends JFrame {
             cardLayout.show(mainContainer, "GAME");
             solver.stopTimer();
             gamePanel.startPlayerMode();
-            gamePanel.requestFocusInWindow();
+            gamePanel.focusBoard();
         });
 
         MinecraftButton btnQuit = new MinecraftButton("KELUAR GAME");
@@ -189,15 +210,11 @@ public class MazeGameMain extends JFrame {
     }
 
     private void updateSkinPreview() {
-        try {
-            URL url = getClass().getResource("assets/player" + currentSkinIndex + ".png");
-            if (url != null) {
-                ImageIcon icon = new ImageIcon(url);
-                Image img = icon.getImage().getScaledInstance(64, 64, Image.SCALE_SMOOTH);
-                lblSkinPreview.setIcon(new ImageIcon(img));
-                lblSkinPreview.setText("");
-            } else lblSkinPreview.setText("?");
-        } catch (Exception e) { lblSkinPreview.setText("Error"); }
+        BufferedImage img = AssetManager.scaled(ASSET_PATH + "player" + currentSkinIndex + ".png", 64, 64);
+        if (img != null) {
+            lblSkinPreview.setIcon(new ImageIcon(img));
+            lblSkinPreview.setText("");
+        } else { lblSkinPreview.setIcon(null); lblSkinPreview.setText("?"); }
     }
 
     private JPanel createGameInterface() {
@@ -216,37 +233,54 @@ public class MazeGameMain extends JFrame {
 
     private JPanel createControlPanel() {
         JPanel bottomPanel = new JPanel(new BorderLayout());
-        JPanel controls = new JPanel(new GridLayout(2, 5, 8, 8));
+        JPanel controls = new JPanel(new GridLayout(2, 9, 8, 8));
         controls.setBackground(new Color(198, 198, 198));
         controls.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
         MinecraftButton btnGen = new MinecraftButton("Buat World");
+        MinecraftButton btnTarget = new MinecraftButton("World Target");
         MinecraftButton btnTerrain = new MinecraftButton("Acak Biome");
         MinecraftButton btnReset = new MinecraftButton("Reset");
         MinecraftButton btnInfo = new MinecraftButton("Info");
         MinecraftButton btnBack = new MinecraftButton("<< Menu");
         MinecraftButton btnBFS = new MinecraftButton("BFS");
+        JComboBox<Heuristic.Kind> comboHeuristic = new JComboBox<>(Heuristic.Kind.values());
+        comboHeuristic.setSelectedItem(SearchMethod.ASTAR.defaultHeuristic);
+        comboHeuristic.setFont(mcFont);
         MinecraftButton btnDFS = new MinecraftButton("DFS");
         MinecraftButton btnDijkstra = new MinecraftButton("Dijkstra");
         MinecraftButton btnAStar = new MinecraftButton("A*");
+        MinecraftButton btnARA = new MinecraftButton("ARA*");
+        MinecraftButton btnKPaths = new MinecraftButton(K_PATHS + " Jalur");
+        MinecraftButton btnAgents = new MinecraftButton("Multi Agen");
+        MinecraftButton btnRace = new MinecraftButton("Balapan");
+        MinecraftButton btnSave = new MinecraftButton("Simpan");
+        MinecraftButton btnLoad = new MinecraftButton("Muat");
         MinecraftButton btnPlay = new MinecraftButton("Main Sendiri");
 
-        btnGen.addActionListener(e -> solver.startGeneration());
-        btnTerrain.addActionListener(e -> { grid.randomizeTerrain(); gamePanel.repaint(); });
+        btnGen.addActionListener(e -> { cancelTargetSearch(); solver.startGeneration(); });
+        btnTarget.addActionListener(e -> generateTargetMaze());
+        btnTerrain.addActionListener(e -> { grid.randomizeTerrain(); gamePanel.publishGrid(); });
         btnReset.addActionListener(e -> {
-            solver.stopTimer(); grid.initGrid(); gamePanel.resetPlayerMode();
-            gamePanel.repaint(); updateStatus("Status: World Reset.");
+            cancelTargetSearch(); solver.stopTimer(); grid.initGrid(); gamePanel.resetPlayerMode();
+            gamePanel.clearPath(); gamePanel.publishGrid(); updateStatus("Status: World Reset.");
         });
         btnInfo.addActionListener(e -> showAlgorithmInfo());
         btnBack.addActionListener(e -> { solver.stopTimer(); cardLayout.show(mainContainer, "MENU"); });
-        btnBFS.addActionListener(e -> solver.startUnweightedSearch("BFS"));
-        btnDFS.addActionListener(e -> solver.startUnweightedSearch("DFS"));
-        btnDijkstra.addActionListener(e -> solver.startWeightedSearch("DIJKSTRA"));
-        btnAStar.addActionListener(e -> solver.startWeightedSearch("ASTAR"));
+        btnBFS.addActionListener(e -> solver.startUnweightedSearch(SearchMethod.BFS));
+        btnDFS.addActionListener(e -> solver.startUnweightedSearch(SearchMethod.DFS));
+        btnDijkstra.addActionListener(e -> solver.startWeightedSearch(SearchConfig.of(SearchMethod.DIJKSTRA)));
+        btnAStar.addActionListener(e -> solver.startWeightedSearch(SearchConfig.of(SearchMethod.ASTAR).withHeuristic((Heuristic.Kind) comboHeuristic.getSelectedItem())));
+        btnARA.addActionListener(e -> solver.startAnytimeSearch(ARA_START_EPSILON, ARA_BUDGET_MS));
+        btnKPaths.addActionListener(e -> solver.showKShortestPaths(K_PATHS));
+        btnAgents.addActionListener(e -> solver.toggleMultiAgent(AGENT_COUNT, AGENT_WINDOW));
+        btnRace.addActionListener(e -> startRace());
+        btnSave.addActionListener(e -> saveMaze());
+        btnLoad.addActionListener(e -> loadMaze());
         btnPlay.addActionListener(e -> { solver.stopTimer(); gamePanel.startPlayerMode(); });
 
-        controls.add(btnGen); controls.add(btnTerrain); controls.add(btnBFS); controls.add(btnDijkstra); controls.add(btnPlay);
-        controls.add(btnReset); controls.add(btnBack); controls.add(btnDFS); controls.add(btnAStar); controls.add(btnInfo);
+        controls.add(btnGen); controls.add(btnTarget); controls.add(btnTerrain); controls.add(btnBFS); controls.add(btnDijkstra); controls.add(btnARA); controls.add(btnAgents); controls.add(btnPlay); controls.add(btnSave);
+        controls.add(btnReset); controls.add(btnBack); controls.add(btnDFS); controls.add(btnAStar); controls.add(btnKPaths); controls.add(btnRace); controls.add(btnInfo); controls.add(btnLoad);
 
         JPanel speedPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         speedPanel.setBackground(new Color(198, 198, 198));
@@ -260,7 +294,17 @@ public class MazeGameMain extends JFrame {
         JLabel lblCepat = new JLabel("Cepat"); lblCepat.setFont(mcFont);
         JLabel lblLambat = new JLabel("Lambat"); lblLambat.setFont(mcFont);
 
+        JLabel lblHeuristic = new JLabel("   Heuristik A*:"); lblHeuristic.setFont(mcFont);
+
+        // Mode render aktif: game loop 60 FPS dengan BufferStrategy, lengkap dengan angka FPS di pojok
+        JCheckBox chkActive = new JCheckBox("Render Aktif");
+        chkActive.setFont(mcFont);
+        chkActive.setBackground(new Color(198, 198, 198));
+        chkActive.setFocusable(false);
+        chkActive.addActionListener(e -> gamePanel.setActiveRendering(chkActive.isSelected(), ACTIVE_FPS));
+
         speedPanel.add(lblCepat); speedPanel.add(sliderSpeed); speedPanel.add(lblLambat);
+        speedPanel.add(lblHeuristic); speedPanel.add(comboHeuristic); speedPanel.add(chkActive);
         JPanel combinedControl = new JPanel(new BorderLayout());
         combinedControl.add(speedPanel, BorderLayout.NORTH);
         combinedControl.add(controls, BorderLayout.CENTER);
@@ -270,11 +314,139 @@ public class MazeGameMain extends JFrame {
         return bottomPanel;
     }
 
+    // Rentang ditulis "min-max"; pencarian seed jalan di thread lain supaya UI tidak macet
+    private void generateTargetMaze() {
+        solver.stopTimer();
+        JTextField fieldCost = new JTextField("160-200");
+        JTextField fieldDeadEnds = new JTextField("0-26");
+        JTextField fieldBranching = new JTextField("2.15-2.4");
+        JPanel form = new JPanel(new GridLayout(3, 2, 6, 6));
+        form.add(new JLabel("Biaya optimal:")); form.add(fieldCost);
+        form.add(new JLabel("Jalan buntu (%):")); form.add(fieldDeadEnds);
+        form.add(new JLabel("Cabang per sel:")); form.add(fieldBranching);
+        if (JOptionPane.showConfirmDialog(this, form, "World Target", JOptionPane.OK_CANCEL_OPTION) != JOptionPane.OK_OPTION) return;
+
+        DifficultySearch.Target target = new DifficultySearch.Target();
+        try {
+            double[] cost = parseRange(fieldCost.getText()), deadEnds = parseRange(fieldDeadEnds.getText()), branching = parseRange(fieldBranching.getText());
+            target.cost((long) cost[0], (long) cost[1]).deadEnds(deadEnds[0] / 100, deadEnds[1] / 100).branching(branching[0], branching[1]);
+        } catch (NumberFormatException ex) {
+            updateStatus("Format rentang salah, contoh: 160-200");
+            return;
+        }
+
+        updateStatus("Mencari world yang cocok...");
+        int rows = grid.rows, cols = grid.cols;
+        cancelTargetSearch();
+        AtomicBoolean cancelled = targetSearch = new AtomicBoolean();
+        Thread search = new Thread(() -> {
+            try {
+                DifficultySearch.Result result = DifficultySearch.find(rows, cols, target, new java.util.Random().nextLong(), TARGET_MAX_ATTEMPTS, cancelled);
+                SwingUtilities.invokeLater(() -> {
+                    if (cancelled.get()) return; // dibatalkan: permintaan baru, Buat World, Reset atau Muat
+                    targetSearch = null;
+                    if (result == null) { updateStatus("Tidak ada world yang cocok dalam " + TARGET_MAX_ATTEMPTS + " percobaan."); return; }
+                    // Generate/pencarian yang sedang jalan jangan dimatikan diam-diam oleh setGrid
+                    if (solver.isWorking()) { updateStatus("World Target (seed " + result.grid.seed + ") ditemukan, tapi diabaikan karena animasi sedang berjalan."); return; }
+                    grid = result.grid;
+                    solver.setGrid(grid);
+                    gamePanel.setGrid(grid);
+                    gamePanel.repaint();
+                    updateStatus("World Target (seed " + grid.seed + ", " + result.attempts + " dicoba) " + result.stats);
+                });
+            } catch (InterruptedException ignored) { }
+        }, "difficulty-search");
+        search.setDaemon(true);
+        search.start();
+    }
+
+    // Hasil pencarian World Target yang masih jalan tidak boleh lagi mengganti grid
+    private void cancelTargetSearch() {
+        if (targetSearch != null) targetSearch.set(true);
+        targetSearch = null;
+    }
+
+    private static double[] parseRange(String text) {
+        String[] parts = text.trim().split("\\s*-\\s*");
+        if (parts.length != 2) throw new NumberFormatException(text);
+        return new double[]{Double.parseDouble(parts[0]), Double.parseDouble(parts[1])};
+    }
+
+    // Semua algoritma dijalankan bersamaan di jendela terpisah; maze di layar utama tidak disentuh
+    private void startRace() {
+        solver.stopTimer();
+        RacePanel racePanel = new RacePanel(new MazeRace(grid, MazeRace.METHODS));
+        JDialog dialog = new JDialog(this, "Mode Balap", false);
+        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        dialog.add(racePanel);
+        dialog.setSize(1000, 420);
+        dialog.setLocationRelativeTo(this);
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override public void windowClosed(WindowEvent e) { racePanel.stop(); }
+        });
+        dialog.setVisible(true);
+        racePanel.start();
+        updateStatus("Balapan: " + java.util.Arrays.toString(MazeRace.METHODS) + " di maze yang sama.");
+    }
+
+    private void saveMaze() {
+        solver.stopTimer();
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File file = chooser.getSelectedFile();
+        try {
+            MazeFile.save(grid, file.toPath(), false);
+            // Jalur yang sedang tampil ikut disimpan di sebelahnya (<nama>.path)
+            CompactPath path = gamePanel.getFinalPath();
+            if (path != null && path.steps() > 0) path.save(pathFileFor(file));
+            updateStatus("Maze disimpan ke " + file.getName());
+        } catch (IOException ex) {
+            updateStatus("Gagal menyimpan maze: " + ex.getMessage());
+        }
+    }
+
+    private void loadMaze() {
+        solver.stopTimer();
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        cancelTargetSearch();
+        File file = chooser.getSelectedFile();
+        try (MappedMaze maze = MazeFile.open(file.toPath())) {
+            if (maze.size() > MAX_VIEW_CELLS) {
+                updateStatus("Maze " + maze.rows + "x" + maze.cols + " terlalu besar untuk ditampilkan.");
+                return;
+            }
+            grid = maze.toGrid();
+            solver.setGrid(grid);
+            gamePanel.setGrid(grid);
+            gamePanel.repaint();
+            updateStatus("Maze dimuat dari " + file.getName() + " (seed " + grid.seed + ")." + loadSavedPath(file));
+        } catch (IOException | RuntimeException ex) {
+            updateStatus("Gagal memuat maze: " + ex.getMessage());
+        }
+    }
+
+    private String loadSavedPath(File mazeFile) {
+        File pathFile = pathFileFor(mazeFile).toFile();
+        if (!pathFile.exists()) return "";
+        try {
+            gamePanel.setFinalPath(CompactPath.load(pathFile.toPath(), grid, TerrainCosts.DEFAULT));
+            gamePanel.repaint();
+            return " Jalur tersimpan ikut dimuat.";
+        } catch (IOException ex) {
+            return " Jalur tersimpan tidak bisa dimuat: " + ex.getMessage();
+        }
+    }
+
+    private static java.nio.file.Path pathFileFor(File mazeFile) {
+        return new File(mazeFile.getPath() + ".path").toPath();
+    }
+
     public void updateStatus(String text) { lblStats.setText(text); }
     public int getAnimationDelay() { return animationDelay; }
 
     private void showAlgorithmInfo() {
-        JTextArea textArea = new JTextArea("BFS: Menyebar ke semua arah selangkah demi selangkah. \nDFS: Menelusuri satu jalur sampai habis, baru ke jalur lain.\nDijkstra: Mencari jalur dengan biaya paling murah.\nA*: Mencari jalur tercepat dengan perkiraan jarak tujuan.");
+        JTextArea textArea = new JTextArea("BFS: Menyebar ke semua arah selangkah demi selangkah. \nDFS: Menelusuri satu jalur sampai habis, baru ke jalur lain.\nDijkstra: Mencari jalur dengan biaya paling murah.\nA*: Mencari jalur tercepat dengan perkiraan jarak tujuan (heuristik dipilih di samping slider).\nARA*: A* berbobot yang cepat memberi jalur, lalu terus memperbaikinya sampai waktu habis.\n" + K_PATHS + " Jalur: Menampilkan beberapa rute berbeda yang paling murah (Yen).\nMulti Agen: " + AGENT_COUNT + " agen berjalan bersamaan tanpa tabrakan, saling memesan sel per langkah waktu (WHCA*).\nBalapan: Semua algoritma dijalankan bersamaan di thread masing-masing, hasilnya dibandingkan di tabel.\nWorld Target: Mencoba banyak seed paralel sampai biaya, jalan buntu dan cabangnya masuk rentang.");
         textArea.setFont(mcFont.deriveFont(14f));
         textArea.setEditable(false);
         textArea.setBackground(new Color(230,230,230));
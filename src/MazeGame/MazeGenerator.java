@@ -0,0 +1,99 @@
+package MazeGame;
+
+import java.util.Random;
+
+/**
+ * Randomized Prim dengan seed. Dipakai animasi (satu step() per frame) maupun headless (generate),
+ * jadi maze yang sama selalu bisa dibuat ulang dari seed-nya.
+ */
+public class MazeGenerator {
+    private final MazeGrid grid;
+    private final Random rng;
+    private int[] frontier;
+    private int frontierSize = 0;
+    private final boolean[] inFrontier;
+    private final MazeGrid.Cell[] visitedNeighbors = new MazeGrid.Cell[4];
+    // Fase carve bisa berjalan lintas banyak frame animasi, jadi event-nya dibawa sampai frontier habis
+    private MazeEvents.Generation carveEvent = MazeEvents.Generation.start();
+    // Dua sel yang dindingnya dibuka step() terakhir (null kalau tidak ada), supaya animasi cukup kirim delta
+    public MazeGrid.Cell lastCarved, lastLinked;
+
+    public MazeGenerator(MazeGrid grid, long seed) {
+        this.grid = grid;
+        this.rng = new Random(seed);
+        grid.initGrid();
+        grid.seed = seed;
+        frontier = new int[Math.max(16, (grid.rows + grid.cols) * 2)];
+        inFrontier = new boolean[grid.size()];
+        grid.startNode.visitedGen = true;
+        addFrontier(grid.startNode);
+    }
+
+    public static MazeGrid generate(int rows, int cols, long seed) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        MazeGenerator generator = new MazeGenerator(grid, seed);
+        while (generator.step()) { }
+        generator.finish();
+        return grid;
+    }
+
+    /** Buka satu sel frontier. Mengembalikan false kalau frontier sudah habis. */
+    public boolean step() {
+        lastCarved = lastLinked = null;
+        if (frontierSize == 0) {
+            if (carveEvent != null) { carveEvent.finish(MazeEvents.PHASE_CARVE, grid); carveEvent = null; }
+            return false;
+        }
+        int pick = rng.nextInt(frontierSize);
+        int idx = frontier[pick];
+        frontier[pick] = frontier[--frontierSize];
+        MazeGrid.Cell current = grid.cellAt(idx);
+
+        int count = 0;
+        for (int dir = 0; dir < 4; dir++) {
+            MazeGrid.Cell nb = grid.neighbor(current, dir);
+            if (nb != null && nb.visitedGen) visitedNeighbors[count++] = nb;
+        }
+        if (count > 0) {
+            lastCarved = current;
+            lastLinked = visitedNeighbors[rng.nextInt(count)];
+            grid.removeWall(current, lastLinked);
+            current.visitedGen = true;
+            addFrontier(current);
+        }
+        return true;
+    }
+
+    public void finish() {
+        MazeEvents.Generation event = MazeEvents.Generation.start();
+        addRandomLoops();
+        event.finish(MazeEvents.PHASE_LOOPS, grid);
+        event = MazeEvents.Generation.start();
+        grid.randomizeTerrain(rng);
+        event.finish(MazeEvents.PHASE_TERRAIN, grid);
+    }
+
+    private void addFrontier(MazeGrid.Cell cell) {
+        for (int dir = 0; dir < 4; dir++) {
+            MazeGrid.Cell nb = grid.neighbor(cell, dir);
+            if (nb == null || nb.visitedGen) continue;
+            int idx = grid.index(nb);
+            if (inFrontier[idx]) continue;
+            inFrontier[idx] = true;
+            if (frontierSize == frontier.length) frontier = java.util.Arrays.copyOf(frontier, frontierSize * 2);
+            frontier[frontierSize++] = idx;
+        }
+    }
+
+    private void addRandomLoops() {
+        if (grid.rows < 3 || grid.cols < 3) return;
+        int loops = (grid.rows * grid.cols) / 5;
+        for (int i = 0; i < loops; i++) {
+            int r = rng.nextInt(grid.rows - 2) + 1;
+            int c = rng.nextInt(grid.cols - 2) + 1;
+            MazeGrid.Cell cell = grid.cells[r][c];
+            if (rng.nextBoolean()) grid.removeWall(cell, grid.cells[r][c + 1]);
+            else grid.removeWall(cell, grid.cells[r + 1][c]);
+        }
+    }
+}
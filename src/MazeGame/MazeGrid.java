@@ -1,6 +1,8 @@
 package MazeGame;
 
-public class MazeGrid {
+import java.util.Random;
+
+public class MazeGrid implements MazeStore {
     public static final int COLS = 20;
     public static final int ROWS = 20;
     public static final int CELL_SIZE = 30;
@@ -9,29 +11,44 @@ public class MazeGrid {
     public static final int COST_MUD = 5;
     public static final int COST_WATER = 10;
 
+    // Urutan arah sama dengan indeks walls: 0 atas, 1 bawah, 2 kanan, 3 kiri
+    public static final int[] DR = {-1, 1, 0, 0};
+    public static final int[] DC = {0, 0, 1, -1};
+
+    public final int rows, cols;
     public Cell[][] cells;
     public Cell startNode;
     public Cell endNode;
+    public MazeConnectivity components;
+    public long seed = 0;
 
     public MazeGrid() {
+        this(ROWS, COLS);
+    }
+
+    public MazeGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
         initGrid();
     }
 
     public void initGrid() {
-        cells = new Cell[ROWS][COLS];
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
+        cells = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
                 cells[r][c] = new Cell(r, c);
             }
         }
         startNode = cells[0][0];
-        endNode = cells[ROWS - 1][COLS - 1];
+        endNode = cells[rows - 1][cols - 1];
+        if (components == null) components = new MazeConnectivity(rows * cols);
+        else components.reset();
         resetSolverData();
     }
 
     public void resetSolverData() {
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
                 cells[r][c].visitedSolve = false;
                 cells[r][c].parent = null;
                 cells[r][c].gCost = Integer.MAX_VALUE;
@@ -41,9 +58,13 @@ public class MazeGrid {
     }
 
     public void randomizeTerrain() {
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                double chance = Math.random();
+        randomizeTerrain(new Random());
+    }
+
+    public void randomizeTerrain(Random rng) {
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                double chance = rng.nextDouble();
                 if (chance < 0.5) cells[r][c].weight = COST_GRASS;
                 else if (chance < 0.8) cells[r][c].weight = COST_MUD;
                 else cells[r][c].weight = COST_WATER;
@@ -54,7 +75,37 @@ public class MazeGrid {
     }
 
     public boolean isValid(int r, int c) {
-        return r >= 0 && c >= 0 && r < ROWS && c < COLS;
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+
+    // Semua pembukaan dinding lewat sini supaya indeks konektivitas ikut diperbarui
+    public void removeWall(Cell a, Cell b) {
+        int dr = a.r - b.r, dc = a.c - b.c;
+        if (dr == 1) { a.walls[0] = false; b.walls[1] = false; }
+        if (dr == -1) { a.walls[1] = false; b.walls[0] = false; }
+        if (dc == 1) { a.walls[3] = false; b.walls[2] = false; }
+        if (dc == -1) { a.walls[2] = false; b.walls[3] = false; }
+        components.union(index(a), index(b));
+    }
+
+    public boolean isReachable(Cell a, Cell b) {
+        return components.connected(index(a), index(b));
+    }
+
+    public int size() { return rows * cols; }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public long startIndex() { return index(startNode); }
+    @Override public long endIndex() { return index(endNode); }
+    @Override public int cellBits(long index) { return MazeFile.encodeCell(cellAt((int) index)); }
+    @Override public int weight(long index) { return cellAt((int) index).weight; }
+    public int index(Cell cell) { return cell.r * cols + cell.c; }
+    public Cell cellAt(int index) { return cells[index / cols][index % cols]; }
+
+    public Cell neighbor(Cell cell, int dir) {
+        int nr = cell.r + DR[dir], nc = cell.c + DC[dir];
+        return isValid(nr, nc) ? cells[nr][nc] : null;
     }
 
     public static class Cell implements Comparable<Cell> {
@@ -68,15 +119,6 @@ public class MazeGrid {
 
         public Cell(int r, int c) { this.r = r; this.c = c; }
 
-        public void calculateFCost(Cell endNode, String method) {
-            if (method.equals("DIJKSTRA") || method.equals("BFS") || method.equals("DFS")) {
-                this.fCost = this.gCost;
-            } else {
-                int hCost = Math.abs(this.r - endNode.r) + Math.abs(this.c - endNode.c);
-                this.fCost = this.gCost + hCost;
-            }
-        }
-
         @Override
         public int compareTo(Cell other) {
             return Integer.compare(this.fCost, other.fCost);
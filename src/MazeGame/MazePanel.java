@@ -4,23 +4,46 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import GameCommon.ActiveRenderer;
+import GameCommon.AssetManager;
+import GameCommon.EdtMonitor;
 
 public class MazePanel extends JPanel {
     private MazeGrid grid;
     private MazeGameMain mainFrame;
-    private BufferedImage imgGrass, imgMud, imgWater, imgPlayer, imgFinish, imgWall;
+    private static final int LEGEND_ICON = 15;
+    private BufferedImage imgGrass, imgMud, imgWater, imgPlayer, imgWall, imgAgent;
+    private BufferedImage iconGrass, iconMud, iconWater;
     private final Color COLOR_GRASS = new Color(34, 139, 34);
     private final Color COLOR_MUD = new Color(139, 69, 19);
     private final Color COLOR_WATER = new Color(30, 144, 255);
+    private final Color COLOR_VISITED = new Color(255, 255, 255, 55);
     private boolean isPlayerMode = false;
     private MazeGrid.Cell playerCell;
-    private int playerTotalCost = 0;
-    private MazeGrid.Cell currentSearchNode;
-    private List<MazeGrid.Cell> finalPath = new ArrayList<>();
+    private CompactPath playerPath;
+    private List<List<MazeGrid.Cell>> alternativePaths = new ArrayList<>();
+
+    // Solver menulis ke frames dari thread-nya sendiri; field di bawahnya hanya disentuh EDT saat paint
+    private final SolverFrames frames = new SolverFrames();
+    private final BitSet visitedCells = new BitSet();
+    private final BitSet pathCells = new BitSet();
+    private int currentSearchNode = -1;
+    private CompactPath finalPath;
+    private int[] agentCells, agentGoals;
+    // Dinding/terrain yang digambar; generator animasi mengubah MazeGrid.Cell dari thread timer, jadi painter
+    // hanya membaca snapshot ini (dikirim lewat frames) dan tidak menyentuh cell.walls/cell.weight
+    private byte[] cellBits;
+    // Mode render aktif: canvas ini menutupi panel dan menggambar sendiri tiap frame; null = repaint() biasa
+    private ActiveRenderer activeRenderer;
+    private boolean frameApplied = false;
+    private final KeyAdapter keyHandler = new KeyAdapter() {
+        @Override public void keyPressed(KeyEvent e) {
+            if (isPlayerMode) handlePlayerMove(e.getKeyCode());
+        }
+    };
 
     public MazePanel(MazeGrid grid, MazeGameMain mainFrame) {
         this.grid = grid;
@@ -30,77 +53,169 @@ public class MazePanel extends JPanel {
         this.addMouseListener(new MouseAdapter() {
             @Override public void mouseClicked(MouseEvent e) { requestFocusInWindow(); }
         });
-        this.addKeyListener(new KeyAdapter() {
-            @Override public void keyPressed(KeyEvent e) {
-                if (isPlayerMode) handlePlayerMove(e.getKeyCode());
-            }
-        });
+        this.addKeyListener(keyHandler);
+        EdtMonitor.watch(this);
+        publishGrid();
+    }
+
+    /** Nyalakan/matikan mode render aktif (game loop + BufferStrategy) dengan FPS target tertentu. */
+    public void setActiveRendering(boolean enabled, int targetFps) {
+        if (activeRenderer != null) {
+            activeRenderer.stop();
+            remove(activeRenderer);
+            activeRenderer = null;
+        }
+        if (enabled) {
+            activeRenderer = new ActiveRenderer(new ActiveRenderer.Scene() {
+                @Override public void update() { frameApplied |= applyFrame(); }
+                @Override public void render(Graphics2D g, int width, int height) {
+                    renderScene(g, width, height, frameApplied);
+                    frameApplied = false;
+                }
+            }, targetFps, targetFps);
+            activeRenderer.setFocusable(true);
+            activeRenderer.addKeyListener(keyHandler);
+            activeRenderer.addMouseListener(new MouseAdapter() {
+                @Override public void mouseClicked(MouseEvent e) { focusBoard(); }
+            });
+            setLayout(new BorderLayout());
+            add(activeRenderer, BorderLayout.CENTER);
+            revalidate();
+            ActiveRenderer renderer = activeRenderer;
+            SwingUtilities.invokeLater(() -> { if (renderer.isDisplayable()) { renderer.start(); focusBoard(); } });
+        } else {
+            revalidate();
+            repaint();
+        }
+    }
+
+    public boolean isActiveRendering() { return activeRenderer != null; }
+
+    // Fokus keyboard ke permukaan yang sedang menggambar (canvas kalau mode aktif)
+    public void focusBoard() {
+        if (activeRenderer != null) activeRenderer.requestFocusInWindow();
+        else requestFocusInWindow();
     }
 
+    // Gambar diambil sudah berukuran sama dengan yang digambar, jadi drawImage tidak perlu menskalakan
     private void loadImages() {
-        imgGrass = smartLoad("grass.png");
-        imgMud = smartLoad("mud.png");
-        imgWater = smartLoad("water.png");
-        imgFinish = smartLoad("finish.png");
-        imgWall = smartLoad("wall.png");
-        imgPlayer = smartLoad("player1.png");
+        imgGrass = tile("grass.png", MazeGrid.CELL_SIZE);
+        imgMud = tile("mud.png", MazeGrid.CELL_SIZE);
+        imgWater = tile("water.png", MazeGrid.CELL_SIZE);
+        imgWall = tile("wall.png", MazeGrid.CELL_SIZE);
+        imgPlayer = tile("player1.png", MazeGrid.CELL_SIZE - 4);
+        imgAgent = tile("player1.png", MazeGrid.CELL_SIZE - 8);
+        iconGrass = tile("grass.png", LEGEND_ICON);
+        iconMud = tile("mud.png", LEGEND_ICON);
+        iconWater = tile("water.png", LEGEND_ICON);
     }
 
-    private BufferedImage smartLoad(String name) {
-        try {
-            URL url = getClass().getResource("assets/" + name);
-            if (url == null) url = getClass().getResource("/MazeGame/assets/" + name);
-            if (url != null) return ImageIO.read(url);
-        } catch(Exception e) { }
-        return null;
+    private BufferedImage tile(String name, int size) {
+        return AssetManager.scaled(MazeGameMain.ASSET_PATH + name, size, size);
     }
 
     public void setPlayerSkin(int skinIndex) {
-        BufferedImage newSkin = smartLoad("player" + skinIndex + ".png");
-        if (newSkin != null) { this.imgPlayer = newSkin; repaint(); }
+        BufferedImage newSkin = tile("player" + skinIndex + ".png", MazeGrid.CELL_SIZE - 4);
+        if (newSkin != null) { this.imgPlayer = newSkin; this.imgAgent = tile("player" + skinIndex + ".png", MazeGrid.CELL_SIZE - 8); repaint(); }
     }
 
     public void startPlayerMode() {
         grid.resetSolverData();
         clearPath();
-        currentSearchNode = null;
         isPlayerMode = true;
         playerCell = grid.startNode;
-        playerTotalCost = 0;
-        finalPath.add(playerCell);
+        playerPath = new CompactPath(grid, grid.index(playerCell), TerrainCosts.DEFAULT);
+        setFinalPath(playerPath);
         mainFrame.updateStatus("MAIN SENDIRI: Klik Peta & Gunakan Panah!");
-        this.requestFocusInWindow();
-        repaint();
+        focusBoard();
+        publishFrame();
+    }
+
+    public void setGrid(MazeGrid grid) { this.grid = grid; clearPath(); publishGrid(); resetPlayerMode(); }
+    public void resetPlayerMode() { isPlayerMode = false; playerCell = null; publishFrame(); }
+    public void setCurrentSearchNode(MazeGrid.Cell cell) { frames.setCurrent(cell == null ? -1 : grid.index(cell)); }
+    public void markVisited(MazeGrid.Cell cell) { frames.markVisited(grid.index(cell)); }
+    public void setFinalPath(CompactPath path) { frames.setPath(path); }
+    public void setAgents(int[] cells, int[] goals) { frames.setAgents(cells, goals); }
+
+    /** Jalur yang sedang tampil di layar (dibaca dari EDT). */
+    public CompactPath getFinalPath() { return finalPath; }
+
+    public void setAlternativePaths(List<List<MazeGrid.Cell>> paths) { this.alternativePaths = paths; }
+    public void clearPath() { frames.reset(); alternativePaths = new ArrayList<>(); }
+
+    /** Serahkan perubahan dari solver sebagai satu frame utuh, lalu minta repaint. Aman dari thread mana pun.
+     *  Dalam mode render aktif tidak perlu repaint: game loop mengambil frame sendiri. */
+    public void publishFrame() {
+        frames.publish();
+        if (activeRenderer == null) repaint();
+    }
+
+    /** Kirim snapshot dinding/terrain grid sekarang ke painter. Panggil dari thread yang sedang mengubah grid. */
+    public void publishGrid() {
+        frames.setCells(snapshot(grid));
+        publishFrame();
+    }
+
+    /** Kirim hanya sel yang berubah (misalnya dua sel dari satu step generator), bukan seluruh grid. */
+    public void publishCells(MazeGrid.Cell... cells) {
+        for (MazeGrid.Cell cell : cells) frames.setCell(grid.index(cell), MazeFile.encodeCell(cell));
+        publishFrame();
     }
 
-    public void resetPlayerMode() { isPlayerMode = false; playerCell = null; repaint(); }
-    public void setCurrentSearchNode(MazeGrid.Cell cell) { this.currentSearchNode = cell; }
-    public void setFinalPath(List<MazeGrid.Cell> path) { this.finalPath = path; }
-    public void clearPath() { finalPath.clear(); currentSearchNode = null; }
+    private static byte[] snapshot(MazeGrid grid) {
+        byte[] bits = new byte[grid.size()];
+        for (int r = 0; r < grid.rows; r++) {
+            for (int c = 0; c < grid.cols; c++) bits[r * grid.cols + c] = (byte) MazeFile.encodeCell(grid.cells[r][c]);
+        }
+        return bits;
+    }
+
+    private boolean applyFrame() {
+        SolverFrames.Frame frame = frames.take();
+        if (frame == null) return false;
+        if (frame.reset) visitedCells.clear();
+        visitedCells.or(frame.visitedDelta);
+        currentSearchNode = frame.current;
+        agentCells = frame.agentCells;
+        agentGoals = frame.agentGoals;
+        if (frame.cells != null) cellBits = frame.cells;
+        if (frame.cellChanges != null && cellBits != null) {
+            int[] changes = frame.cellChanges;
+            for (int i = 0; i < changes.length; i += 2) if (changes[i] < cellBits.length) cellBits[changes[i]] = (byte) changes[i + 1];
+        }
+        if (frame.pathChanged || frame.path != finalPath) {
+            finalPath = frame.path;
+            pathCells.clear();
+            if (finalPath != null) for (long cell : finalPath.toIndices()) pathCells.set((int) cell);
+        }
+        return true;
+    }
 
     private void handlePlayerMove(int keyCode) {
         if (!isPlayerMode || playerCell == null) return;
         int r = playerCell.r; int c = playerCell.c;
         MazeGrid.Cell nextCell = null;
-        if (keyCode == KeyEvent.VK_UP && !playerCell.walls[0]) nextCell = grid.cells[r - 1][c];
-        else if (keyCode == KeyEvent.VK_DOWN && !playerCell.walls[1]) nextCell = grid.cells[r + 1][c];
-        else if (keyCode == KeyEvent.VK_RIGHT && !playerCell.walls[2]) nextCell = grid.cells[r][c + 1];
-        else if (keyCode == KeyEvent.VK_LEFT && !playerCell.walls[3]) nextCell = grid.cells[r][c - 1];
+        int dir = -1;
+        if (keyCode == KeyEvent.VK_UP && !playerCell.walls[0]) { nextCell = grid.cells[r - 1][c]; dir = 0; }
+        else if (keyCode == KeyEvent.VK_DOWN && !playerCell.walls[1]) { nextCell = grid.cells[r + 1][c]; dir = 1; }
+        else if (keyCode == KeyEvent.VK_RIGHT && !playerCell.walls[2]) { nextCell = grid.cells[r][c + 1]; dir = 2; }
+        else if (keyCode == KeyEvent.VK_LEFT && !playerCell.walls[3]) { nextCell = grid.cells[r][c - 1]; dir = 3; }
 
         if (nextCell != null) {
             playerCell = nextCell;
-            playerTotalCost += playerCell.weight;
-            finalPath.add(playerCell);
-            mainFrame.updateStatus("Biaya: " + playerTotalCost);
+            playerPath.append(dir);
+            setFinalPath(playerPath);
+            mainFrame.updateStatus("Biaya: " + playerPath.totalCost());
             SoundManager.playSFX("step.wav");
             if (playerCell == grid.endNode) {
                 SoundManager.playSFX("win.wav");
-                JLabel msg = new JLabel("YIPPIE, sampai tujuan! Total Biaya: " + playerTotalCost);
+                JLabel msg = new JLabel("YIPPIE, sampai tujuan! " + compareWithOptimal());
                 if (MazeGameMain.mcFont != null) msg.setFont(MazeGameMain.mcFont.deriveFont(18f));
                 JOptionPane.showMessageDialog(this, msg);
                 isPlayerMode = false;
             }
-            repaint();
+            publishFrame();
         }
     }
 
@@ -108,36 +223,54 @@ public class MazePanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         setBackground(Color.BLACK);
-        Graphics2D g2 = (Graphics2D) g;
+        if (activeRenderer != null) return; // canvas yang menggambar
+        renderScene((Graphics2D) g, getWidth(), getHeight(), applyFrame());
+    }
+
+    // Dipakai paintComponent dan game loop mode aktif; g bisa berasal dari BufferStrategy
+    private void renderScene(Graphics2D g2, int width, int height, boolean applied) {
+        long paintStart = System.nanoTime();
+        MazeEvents.Paint event = MazeEvents.Paint.start();
+        g2.setColor(Color.BLACK);
+        g2.fillRect(0, 0, width, height);
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        int xOff = (getWidth() - (MazeGrid.COLS * MazeGrid.CELL_SIZE)) / 2;
-        int yOff = (getHeight() - (MazeGrid.ROWS * MazeGrid.CELL_SIZE)) / 2;
+        // Snapshot dari grid lama (atau belum ada): grid ini baru dipasang dari EDT, jadi aman dibaca langsung
+        if (cellBits == null || cellBits.length != grid.size()) cellBits = snapshot(grid);
+        int xOff = (width - (grid.cols * MazeGrid.CELL_SIZE)) / 2;
+        int yOff = (height - (grid.rows * MazeGrid.CELL_SIZE)) / 2;
 
-        for (int r = 0; r < MazeGrid.ROWS; r++) {
-            for (int c = 0; c < MazeGrid.COLS; c++) {
+        for (int r = 0; r < grid.rows; r++) {
+            for (int c = 0; c < grid.cols; c++) {
                 MazeGrid.Cell cell = grid.cells[r][c];
                 int x = xOff + c * MazeGrid.CELL_SIZE;
                 int y = yOff + r * MazeGrid.CELL_SIZE;
 
-                if (cell.weight == MazeGrid.COST_GRASS) {
-                    if(imgGrass!=null) g2.drawImage(imgGrass, x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE, null);
+                int index = grid.index(cell);
+                int bits = cellBits[index], terrain = (bits >> 4) & 3;
+                if (terrain == MazeFile.TERRAIN_GRASS) {
+                    if(imgGrass!=null) g2.drawImage(imgGrass, x, y, null);
                     else { g2.setColor(COLOR_GRASS); g2.fillRect(x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE); }
-                } else if (cell.weight == MazeGrid.COST_MUD) {
-                    if(imgMud!=null) g2.drawImage(imgMud, x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE, null);
+                } else if (terrain == MazeFile.TERRAIN_MUD) {
+                    if(imgMud!=null) g2.drawImage(imgMud, x, y, null);
                     else { g2.setColor(COLOR_MUD); g2.fillRect(x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE); }
                 } else {
-                    if(imgWater!=null) g2.drawImage(imgWater, x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE, null);
+                    if(imgWater!=null) g2.drawImage(imgWater, x, y, null);
                     else { g2.setColor(COLOR_WATER); g2.fillRect(x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE); }
                 }
 
-                if (finalPath.contains(cell)) {
+                if (visitedCells.get(index)) {
+                    g2.setColor(COLOR_VISITED);
+                    g2.fillRect(x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE);
+                }
+
+                if (pathCells.get(index)) {
                     g2.setColor(new Color(255, 0, 0, 100));
                     g2.fillRect(x + 5, y + 5, MazeGrid.CELL_SIZE - 10, MazeGrid.CELL_SIZE - 10);
                 }
 
-                if ((isPlayerMode && cell == playerCell) || (cell == currentSearchNode && !isPlayerMode)) {
-                    if(imgPlayer != null) g2.drawImage(imgPlayer, x+2, y+2, MazeGrid.CELL_SIZE-4, MazeGrid.CELL_SIZE-4, null);
+                if ((isPlayerMode && cell == playerCell) || (index == currentSearchNode && !isPlayerMode)) {
+                    if(imgPlayer != null) g2.drawImage(imgPlayer, x+2, y+2, null);
                     else { g2.setColor(Color.YELLOW); g2.fillOval(x+5, y+5, MazeGrid.CELL_SIZE-10, MazeGrid.CELL_SIZE-10); }
                 }
 
@@ -145,19 +278,74 @@ public class MazePanel extends JPanel {
                     drawShadowText(g2, "S", x, y, Color.BLUE);
                 }
                 else if (cell == grid.endNode) {
-                    if(imgFinish!=null) g2.drawImage(imgFinish, x, y, MazeGrid.CELL_SIZE, MazeGrid.CELL_SIZE, null);
-                    else drawShadowText(g2, "F", x, y, Color.RED);
+                    drawShadowText(g2, "F", x, y, Color.RED);
                 }
 
                 g2.setColor(Color.WHITE);
                 if(imgWall!=null) g2.setStroke(new BasicStroke(3)); else g2.setStroke(new BasicStroke(2));
-                if (cell.walls[0]) g2.drawLine(x, y, x + MazeGrid.CELL_SIZE, y);
-                if (cell.walls[1]) g2.drawLine(x, y + MazeGrid.CELL_SIZE, x + MazeGrid.CELL_SIZE, y + MazeGrid.CELL_SIZE);
-                if (cell.walls[2]) g2.drawLine(x + MazeGrid.CELL_SIZE, y, x + MazeGrid.CELL_SIZE, y + MazeGrid.CELL_SIZE);
-                if (cell.walls[3]) g2.drawLine(x, y, x, y + MazeGrid.CELL_SIZE);
+                if ((bits & 1) != 0) g2.drawLine(x, y, x + MazeGrid.CELL_SIZE, y);
+                if ((bits & 2) != 0) g2.drawLine(x, y + MazeGrid.CELL_SIZE, x + MazeGrid.CELL_SIZE, y + MazeGrid.CELL_SIZE);
+                if ((bits & 4) != 0) g2.drawLine(x + MazeGrid.CELL_SIZE, y, x + MazeGrid.CELL_SIZE, y + MazeGrid.CELL_SIZE);
+                if ((bits & 8) != 0) g2.drawLine(x, y, x, y + MazeGrid.CELL_SIZE);
             }
         }
+        drawAlternativePaths(g2, xOff, yOff);
+        drawAgents(g2, xOff, yOff);
         drawLegend(g2);
+        event.finish(grid.rows * grid.cols, applied);
+        EdtMonitor.recordPaint(System.nanoTime() - paintStart);
+        EdtMonitor.drawOverlay(g2, width, height);
+    }
+
+    // Jalur ke-i digambar sebagai garis warna berbeda, sedikit digeser supaya jalur yang berimpit tetap terlihat
+    private void drawAlternativePaths(Graphics2D g2, int xOff, int yOff) {
+        int count = alternativePaths.size();
+        if (count == 0) return;
+        g2.setStroke(new BasicStroke(3, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        for (int i = count - 1; i >= 0; i--) {
+            List<MazeGrid.Cell> path = alternativePaths.get(i);
+            int shift = (i % 5) * 3 - 6;
+            int[] xs = new int[path.size()], ys = new int[path.size()];
+            for (int j = 0; j < path.size(); j++) {
+                xs[j] = xOff + path.get(j).c * MazeGrid.CELL_SIZE + MazeGrid.CELL_SIZE / 2 + shift;
+                ys[j] = yOff + path.get(j).r * MazeGrid.CELL_SIZE + MazeGrid.CELL_SIZE / 2 + shift;
+            }
+            Color hue = Color.getHSBColor(i / (float) count, 0.9f, 1f);
+            g2.setColor(new Color(hue.getRed(), hue.getGreen(), hue.getBlue(), i == 0 ? 230 : 170));
+            g2.drawPolyline(xs, ys, path.size());
+        }
+    }
+
+    // Rute pemain dibandingkan dengan jalur termurah dalam format yang sama
+    private String compareWithOptimal() {
+        StoreSolver.Result best = StoreSolver.solve(grid, SearchMethod.DIJKSTRA);
+        String text = "Total Biaya: " + playerPath.totalCost();
+        if (!best.found) return text;
+        CompactPath optimal = CompactPath.of(grid, best.path, TerrainCosts.DEFAULT);
+        long extra = playerPath.totalCost() - optimal.totalCost();
+        if (extra == 0) return text + " (optimal!)";
+        int split = playerPath.divergesFrom(optimal);
+        return text + String.format(" (optimal %d, +%d, mulai menyimpang di langkah %d)", optimal.totalCost(), extra, split < 0 ? Math.min(playerPath.steps(), optimal.steps()) : split);
+    }
+
+    // Tiap agen punya warna sendiri; goal-nya ditandai kotak kecil dengan warna yang sama
+    private void drawAgents(Graphics2D g2, int xOff, int yOff) {
+        int[] cells = agentCells, goals = agentGoals;
+        if (cells == null) return;
+        int count = cells.length, size = MazeGrid.CELL_SIZE;
+        g2.setStroke(new BasicStroke(2));
+        for (int a = 0; a < count; a++) {
+            Color color = Color.getHSBColor(a / (float) count, 0.8f, 1f);
+            int goal = goals[a], pos = cells[a];
+            int gx = xOff + (goal % grid.cols) * size, gy = yOff + (goal / grid.cols) * size;
+            g2.setColor(color);
+            g2.drawRect(gx + size / 3, gy + size / 3, size / 3, size / 3);
+
+            int x = xOff + (pos % grid.cols) * size, y = yOff + (pos / grid.cols) * size;
+            if (imgAgent != null) g2.drawImage(imgAgent, x + 4, y + 4, null);
+            g2.setColor(color);
+            g2.drawOval(x + 3, y + 3, size - 6, size - 6);
+        }
     }
 
     private void drawShadowText(Graphics2D g2, String text, int cellX, int cellY, Color color) {
@@ -179,7 +367,7 @@ public class MazePanel extends JPanel {
     }
 
     private void drawLegend(Graphics2D g2) {
-        int lx = 10, ly = 10, bs = 15;
+        int lx = 10, ly = 10, bs = LEGEND_ICON;
         g2.setColor(new Color(255, 255, 255, 220));
         g2.fillRoundRect(lx-5, ly-5, 180, 85, 10, 10);
         g2.setColor(Color.BLACK);
@@ -187,17 +375,17 @@ public class MazePanel extends JPanel {
 
         if (MazeGameMain.mcFont != null) g2.setFont(MazeGameMain.mcFont.deriveFont(12f));
 
-        if(imgGrass!=null) g2.drawImage(imgGrass, lx, ly, bs, bs, null);
+        if(iconGrass!=null) g2.drawImage(iconGrass, lx, ly, null);
         else { g2.setColor(COLOR_GRASS); g2.fillRect(lx, ly, bs, bs); }
         g2.setColor(Color.BLACK); g2.drawRect(lx, ly, bs, bs);
         g2.drawString("Rumput (+1)", lx+25, ly+12);
 
-        if(imgMud!=null) g2.drawImage(imgMud, lx, ly+25, bs, bs, null);
+        if(iconMud!=null) g2.drawImage(iconMud, lx, ly+25, null);
         else { g2.setColor(COLOR_MUD); g2.fillRect(lx, ly+25, bs, bs); }
         g2.setColor(Color.BLACK); g2.drawRect(lx, ly+25, bs, bs);
         g2.drawString("Lumpur (+5)", lx+25, ly+37);
 
-        if(imgWater!=null) g2.drawImage(imgWater, lx, ly+50, bs, bs, null);
+        if(iconWater!=null) g2.drawImage(iconWater, lx, ly+50, null);
         else { g2.setColor(COLOR_WATER); g2.fillRect(lx, ly+50, bs, bs); }
         g2.setColor(Color.BLACK); g2.drawRect(lx, ly+50, bs, bs);
         g2.drawString("Air (+10)", lx+25, ly+62);
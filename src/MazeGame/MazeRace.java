@@ -0,0 +1,96 @@
+package MazeGame;
+
+import java.util.concurrent.*;
+
+/**
+ * Balapan algoritma: setiap metode jalan di thread sendiri di atas satu snapshot maze yang sama
+ * (OffHeapMaze, hanya dibaca), dengan scratch masing-masing, jadi tidak ada yang saling mengganggu.
+ * Semua lane menunggu satu aba-aba supaya mulainya bersamaan.
+ */
+public class MazeRace implements AutoCloseable {
+    public static final SearchMethod[] METHODS = SearchMethod.values();
+
+    public static class Lane {
+        public final SearchConfig config;
+        public final SearchScratch scratch;
+        // Node dicek dan frontier max sementara, dibaca tabel selama lane masih berjalan
+        public final StoreSolver.Progress progress = new StoreSolver.Progress();
+        volatile long startNanos = 0;
+        public volatile StoreSolver.Result result;
+        public volatile String error;
+
+        Lane(SearchConfig config, SearchScratch scratch) { this.config = config; this.scratch = scratch; }
+
+        public boolean isDone() { return result != null || error != null; }
+
+        /** Waktu berjalan, atau waktu akhir kalau sudah selesai. */
+        public long elapsedNanos() {
+            if (result != null) return result.nanos;
+            return startNanos == 0 ? 0 : System.nanoTime() - startNanos;
+        }
+    }
+
+    public final OffHeapMaze snapshot;
+    public final Lane[] lanes;
+    private final ExecutorService executor;
+    private final CountDownLatch go = new CountDownLatch(1);
+
+    public MazeRace(MazeStore maze, SearchMethod... methods) {
+        this(maze, configsOf(methods));
+    }
+
+    public MazeRace(MazeStore maze, SearchConfig... configs) {
+        snapshot = OffHeapMaze.copyOf(maze);
+        lanes = new Lane[configs.length];
+        for (int i = 0; i < configs.length; i++) lanes[i] = new Lane(configs[i], snapshot.newScratch());
+        executor = Executors.newFixedThreadPool(configs.length, r -> {
+            Thread t = new Thread(r, "maze-race");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static SearchConfig[] configsOf(SearchMethod[] methods) {
+        SearchConfig[] configs = new SearchConfig[methods.length];
+        for (int i = 0; i < methods.length; i++) configs[i] = SearchConfig.of(methods[i]);
+        return configs;
+    }
+
+    public void start() {
+        for (Lane lane : lanes) executor.submit(() -> run(lane));
+        go.countDown();
+        executor.shutdown();
+    }
+
+    public boolean isFinished() {
+        for (Lane lane : lanes) if (!lane.isDone()) return false;
+        return true;
+    }
+
+    private void run(Lane lane) {
+        try {
+            go.await();
+            lane.startNanos = System.nanoTime();
+            lane.result = StoreSolver.solve(snapshot, lane.config, lane.scratch, lane.progress);
+        } catch (InterruptedException e) {
+            lane.error = "Dibatalkan";
+        } catch (RuntimeException e) {
+            lane.error = e.getMessage();
+        }
+    }
+
+    /** Hentikan lane yang masih jalan; buffer snapshot baru dipakai ulang kalau semua thread sudah berhenti. */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        Thread closer = new Thread(() -> {
+            boolean stopped = false;
+            try { stopped = executor.awaitTermination(1, TimeUnit.MINUTES); } catch (InterruptedException ignored) { }
+            // Lane yang masih jalan bisa menulis ke buffer yang sudah dipakai maze lain, jadi biarkan GC yang melepas
+            if (stopped) snapshot.close();
+            else snapshot.abandon();
+        }, "maze-race-close");
+        closer.setDaemon(true);
+        closer.start();
+    }
+}
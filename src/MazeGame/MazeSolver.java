@@ -9,7 +9,12 @@ public class MazeSolver {
     private MazePanel panel;
     private MazeGameMain mainFrame;
     private Timer animTimer;
-    private boolean isWorking = false;
+    // Ditulis thread timer animasi, dibaca EDT
+    private volatile boolean isWorking = false;
+    private MultiAgentPlanner agentPlanner;
+    // Event JFR untuk pencarian animasi yang sedang berjalan; queueOps = push + pop ke struktur frontier
+    private MazeEvents.Search searchEvent;
+    private long queueOps = 0;
 
     public long nodesVisitedCount = 0;
     public int totalPathCost = 0;
@@ -20,6 +25,10 @@ public class MazeSolver {
         this.mainFrame = mainFrame;
     }
 
+    public void setGrid(MazeGrid grid) { stopTimer(); this.grid = grid; }
+
+    public boolean isWorking() { return isWorking; }
+
     public void stopTimer() {
         if (animTimer != null) { animTimer.cancel(); animTimer = null; }
         isWorking = false;
@@ -40,51 +49,48 @@ public class MazeSolver {
         if (isWorking) return;
         mainFrame.updateStatus("Sedang Membuat Maze...");
         stopTimer();
-        grid.initGrid();
+        MazeGenerator generator = new MazeGenerator(grid, new Random().nextLong());
         panel.resetPlayerMode();
+        // Visited dan jalur run sebelumnya tidak berlaku untuk maze baru; grid kosong dikirim utuh sekali
+        panel.clearPath();
+        panel.publishGrid();
         isWorking = true;
-        Stack<MazeGrid.Cell> frontier = new Stack<>();
-        grid.startNode.visitedGen = true;
-        addFrontier(grid.startNode, frontier);
 
         runAnimationStep(() -> {
-            if (!frontier.isEmpty()) {
-                int randIndex = (int) (Math.random() * frontier.size());
-                MazeGrid.Cell current = frontier.remove(randIndex);
-                List<MazeGrid.Cell> neighbors = getVisitedNeighbors(current);
-                if (!neighbors.isEmpty()) {
-                    MazeGrid.Cell target = neighbors.get((int) (Math.random() * neighbors.size()));
-                    removeWalls(current, target);
-                    current.visitedGen = true;
-                    addFrontier(current, frontier);
-                }
-                panel.repaint();
+            if (generator.step()) {
+                if (generator.lastCarved != null) panel.publishCells(generator.lastCarved, generator.lastLinked);
+                else panel.publishFrame();
             } else {
-                addRandomLoops();
-                grid.randomizeTerrain();
+                generator.finish();
+                panel.publishGrid();
                 isWorking = false;
-                mainFrame.updateStatus("Maze Siap. Silakan pilih solusi.");
+                mainFrame.updateStatus("Maze Siap (seed " + grid.seed + "). Silakan pilih solusi.");
             }
         });
     }
 
-    public void startUnweightedSearch(String method) {
-        if (isWorking) return;
-        prepareSearch(method);
-        Collection<MazeGrid.Cell> structure = method.equals("DFS") ? new Stack<>() : new LinkedList<>();
+    public void startUnweightedSearch(SearchMethod method) {
+        String label = method.name();
+        if (isWorking || rejectUnreachable(label)) return;
+        prepareSearch(label);
+        boolean depthFirst = method == SearchMethod.DFS;
+        Collection<MazeGrid.Cell> structure = depthFirst ? new Stack<>() : new LinkedList<>();
         structure.add(grid.startNode);
+        queueOps++;
         grid.startNode.visitedSolve = true;
 
         runAnimationStep(() -> {
             if (!structure.isEmpty()) {
-                MazeGrid.Cell curr = method.equals("DFS") ? ((Stack<MazeGrid.Cell>) structure).pop() : ((Queue<MazeGrid.Cell>) structure).poll();
+                MazeGrid.Cell curr = depthFirst ? ((Stack<MazeGrid.Cell>) structure).pop() : ((Queue<MazeGrid.Cell>) structure).poll();
+                queueOps++;
                 panel.setCurrentSearchNode(curr);
+                panel.markVisited(curr);
                 nodesVisitedCount++;
 
                 // --- CEK WIN DI SINI ---
                 if (curr == grid.endNode) {
                     SoundManager.playSFX("win.wav");
-                    finishSearch(curr, method);
+                    finishSearch(curr, label, TerrainCosts.DEFAULT);
                     return;
                 }
                 // -----------------------
@@ -93,66 +99,180 @@ public class MazeSolver {
                 checkNeighborUnweighted(curr, 1, 0, 1, structure);
                 checkNeighborUnweighted(curr, 0, 1, 2, structure);
                 checkNeighborUnweighted(curr, 0, -1, 3, structure);
-                panel.repaint();
-            } else { isWorking = false; mainFrame.updateStatus(method + " Gagal."); }
+                panel.publishFrame();
+            } else { failSearch(label); }
         });
     }
 
-    public void startWeightedSearch(String method) {
-        if (isWorking) return;
-        prepareSearch(method);
+    public void startWeightedSearch(SearchConfig config) {
+        String label = config.toString();
+        if (isWorking || rejectUnreachable(label)) return;
+        prepareSearch(label);
+        // Heuristik dan biaya sel diikat sekali di sini; loop per node hanya membaca array dan memanggil estimate
+        Heuristic heuristic = config.heuristicFor(grid);
+        int[] stepCost = config.stepCosts().cellCosts(grid);
         PriorityQueue<MazeGrid.Cell> pq = new PriorityQueue<>();
         grid.startNode.gCost = 0;
-        grid.startNode.calculateFCost(grid.endNode, method);
+        grid.startNode.fCost = heuristic.estimate(grid.index(grid.startNode));
         pq.add(grid.startNode);
+        queueOps++;
 
         runAnimationStep(() -> {
             if (!pq.isEmpty()) {
                 MazeGrid.Cell curr = pq.poll();
+                queueOps++;
                 if (curr.visitedSolve) return;
                 curr.visitedSolve = true;
                 panel.setCurrentSearchNode(curr);
+                panel.markVisited(curr);
                 nodesVisitedCount++;
 
                 if (curr == grid.endNode) {
                     SoundManager.playSFX("win.wav"); // <--- AI BUNYI
-                    finishSearch(curr, method);
+                    finishSearch(curr, label, config.stepCosts());
                     return;
                 }
-                checkNeighborWeighted(curr, -1, 0, 0, method, pq);
-                checkNeighborWeighted(curr, 1, 0, 1, method, pq);
-                checkNeighborWeighted(curr, 0, 1, 2, method, pq);
-                checkNeighborWeighted(curr, 0, -1, 3, method, pq);
-                panel.repaint();
-            } else { isWorking = false; mainFrame.updateStatus(method + " Gagal."); }
+                checkNeighborWeighted(curr, -1, 0, 0, stepCost, heuristic, pq);
+                checkNeighborWeighted(curr, 1, 0, 1, stepCost, heuristic, pq);
+                checkNeighborWeighted(curr, 0, 1, 2, stepCost, heuristic, pq);
+                checkNeighborWeighted(curr, 0, -1, 3, stepCost, heuristic, pq);
+                panel.publishFrame();
+            } else { failSearch(label); }
+        });
+    }
+
+    public void startAnytimeSearch(double startEpsilon, long budgetMillis) {
+        if (isWorking || rejectUnreachable("ARA*")) return;
+        prepareSearch("ARA*");
+        AnytimeSearch search = new AnytimeSearch(grid, startEpsilon);
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+
+        // Satu putaran ARA* per frame animasi, setiap jalur yang membaik langsung digambar
+        runAnimationStep(() -> {
+            boolean completed = search.improvePath(deadline);
+            nodesVisitedCount = search.nodesVisitedCount;
+            queueOps = search.heapOperations;
+            if (!search.hasPath()) {
+                isWorking = false;
+                commitSearchEvent("ARA*", false);
+                mainFrame.updateStatus(completed ? "ARA* Gagal." : "ARA* Gagal: Waktu habis.");
+                return;
+            }
+            panel.setCurrentSearchNode(grid.endNode);
+            panel.setFinalPath(CompactPath.fromParents(grid, grid.endNode, TerrainCosts.DEFAULT));
+            totalPathCost = search.pathCost();
+
+            boolean timeUp = !completed || System.nanoTime() > deadline;
+            if (search.isOptimal() || timeUp) {
+                isWorking = false;
+                commitSearchEvent("ARA*", true);
+                if (search.isOptimal()) SoundManager.playSFX("win.wav");
+                mainFrame.updateStatus(String.format("ARA* Selesai%s. Biaya: %d | Batas: %.2fx optimal | Node Dicek: %d",
+                        timeUp && !search.isOptimal() ? " (Waktu habis)" : "", totalPathCost, search.bound(), nodesVisitedCount));
+            } else {
+                mainFrame.updateStatus(String.format("ARA* e=%.1f | Biaya: %d | Batas: %.2fx optimal | Node Dicek: %d",
+                        search.getEpsilon(), totalPathCost, search.bound(), nodesVisitedCount));
+                search.nextIteration();
+            }
+            panel.publishFrame();
+        });
+    }
+
+    public void showKShortestPaths(int k) {
+        if (isWorking || rejectUnreachable("K-Jalur")) return;
+        prepareSearch("K-Jalur");
+        KShortestPaths ksp = new KShortestPaths(grid);
+        List<KShortestPaths.Route> routes = ksp.find(k);
+        isWorking = false;
+        nodesVisitedCount = ksp.nodesVisitedCount;
+        queueOps = ksp.heapOperations();
+        if (routes.isEmpty()) { commitSearchEvent("K-Jalur", false); mainFrame.updateStatus("K-Jalur Gagal."); panel.publishFrame(); return; }
+
+        List<List<MazeGrid.Cell>> paths = new ArrayList<>();
+        StringBuilder costs = new StringBuilder();
+        for (KShortestPaths.Route route : routes) {
+            paths.add(route.toCells(grid));
+            if (costs.length() > 0) costs.append(", ");
+            costs.append(route.cost);
+        }
+        totalPathCost = routes.get(0).cost;
+        commitSearchEvent("K-Jalur", true);
+        panel.setAlternativePaths(paths);
+        panel.publishFrame();
+        mainFrame.updateStatus(String.format("%d Jalur Termurah | Biaya: %s", routes.size(), costs));
+    }
+
+    // Tombol yang sama dipakai untuk menghentikan simulasi
+    public void toggleMultiAgent(int agentCount, int window) {
+        if (isWorking && agentPlanner != null) {
+            stopTimer();
+            mainFrame.updateStatus("Multi Agen dihentikan. Sampai: " + agentPlanner.arrivals);
+            agentPlanner = null;
+            return;
+        }
+        if (isWorking) return;
+        prepareSearch("Multi Agen");
+        searchEvent = null; // simulasi tidak punya akhir, jadi tidak dicatat sebagai satu pencarian
+        MultiAgentPlanner planner = new MultiAgentPlanner(grid, agentCount, window, new Random().nextLong());
+        agentPlanner = planner;
+        panel.setAgents(planner.positions(), planner.goals());
+        panel.publishFrame();
+
+        // Jalan terus sampai tombol lain menghentikan timer; tiap agen yang sampai langsung diberi goal baru
+        runAnimationStep(() -> {
+            planner.tick();
+            panel.setAgents(planner.positions(), planner.goals());
+            panel.publishFrame();
+            mainFrame.updateStatus(String.format("Multi Agen: %d | Sampai: %d | Replan: %d | Gagal: %d | Bentrok: %d | Tick: %.2f ms (maks %.2f)",
+                    planner.agentCount(), planner.arrivals, planner.replans, planner.failedPlans, planner.conflicts,
+                    planner.lastTickNanos / 1e6, planner.maxTickNanos / 1e6));
         });
     }
 
+    // Cek konektivitas O(1) sebelum mulai, jadi pencarian yang pasti gagal tidak perlu menghabiskan frontier
+    private boolean rejectUnreachable(String method) {
+        if (grid.isReachable(grid.startNode, grid.endNode)) return false;
+        panel.resetPlayerMode();
+        panel.clearPath();
+        mainFrame.updateStatus(method + " Gagal: Start dan Finish tidak terhubung.");
+        return true;
+    }
+
     private void prepareSearch(String method) {
         isWorking = true;
+        agentPlanner = null;
         panel.resetPlayerMode();
         grid.resetSolverData();
         panel.clearPath();
         nodesVisitedCount = 0;
+        queueOps = 0;
+        searchEvent = MazeEvents.Search.start();
         mainFrame.updateStatus("Menjalankan " + method + "...");
     }
 
-    private void finishSearch(MazeGrid.Cell end, String method) {
-        reconstructPath(end);
+    private void finishSearch(MazeGrid.Cell end, String method, TerrainCosts costs) {
+        reconstructPath(end, costs);
         isWorking = false;
-        panel.repaint();
+        commitSearchEvent(method, true);
+        panel.publishFrame();
         mainFrame.updateStatus(String.format("%s Selesai. Total Biaya: %d | Node Dicek: %d", method, totalPathCost, nodesVisitedCount));
     }
 
-    private void reconstructPath(MazeGrid.Cell end) {
-        MazeGrid.Cell curr = end;
-        totalPathCost = 0;
-        List<MazeGrid.Cell> path = new ArrayList<>();
-        while (curr != null) {
-            path.add(curr);
-            if (curr != grid.startNode) totalPathCost += curr.weight;
-            curr = curr.parent;
-        }
+    private void failSearch(String method) {
+        isWorking = false;
+        commitSearchEvent(method, false);
+        mainFrame.updateStatus(method + " Gagal.");
+    }
+
+    private void commitSearchEvent(String method, boolean found) {
+        if (searchEvent == null) return;
+        searchEvent.finish(method, true, grid, found, found ? totalPathCost : -1, nodesVisitedCount, queueOps);
+        searchEvent = null;
+    }
+
+    private void reconstructPath(MazeGrid.Cell end, TerrainCosts costs) {
+        CompactPath path = CompactPath.fromParents(grid, end, costs);
+        totalPathCost = (int) path.totalCost();
         panel.setFinalPath(path);
     }
 
@@ -163,57 +283,23 @@ public class MazeSolver {
             neighbor.visitedSolve = true;
             neighbor.parent = curr;
             struct.add(neighbor);
+            queueOps++;
         }
     }
 
-    private void checkNeighborWeighted(MazeGrid.Cell curr, int dr, int dc, int wallIdx, String method, PriorityQueue<MazeGrid.Cell> pq) {
+    private void checkNeighborWeighted(MazeGrid.Cell curr, int dr, int dc, int wallIdx, int[] stepCost, Heuristic heuristic, PriorityQueue<MazeGrid.Cell> pq) {
         int nr = curr.r + dr, nc = curr.c + dc;
         if (grid.isValid(nr, nc) && !curr.walls[wallIdx] && !grid.cells[nr][nc].visitedSolve) {
             MazeGrid.Cell neighbor = grid.cells[nr][nc];
-            int newGCost = curr.gCost + neighbor.weight;
+            int index = grid.index(neighbor);
+            int newGCost = curr.gCost + stepCost[index];
             if (newGCost < neighbor.gCost) {
                 neighbor.gCost = newGCost;
                 neighbor.parent = curr;
-                neighbor.calculateFCost(grid.endNode, method);
+                neighbor.fCost = newGCost + heuristic.estimate(index);
                 pq.add(neighbor);
+                queueOps++;
             }
         }
     }
-
-    private void addFrontier(MazeGrid.Cell cell, Stack<MazeGrid.Cell> frontier) {
-        int[] dr = {-1, 1, 0, 0}, dc = {0, 0, -1, 1};
-        for (int i = 0; i < 4; i++) {
-            int nr = cell.r + dr[i], nc = cell.c + dc[i];
-            if (grid.isValid(nr, nc) && !grid.cells[nr][nc].visitedGen && !frontier.contains(grid.cells[nr][nc])) frontier.add(grid.cells[nr][nc]);
-        }
-    }
-
-    private List<MazeGrid.Cell> getVisitedNeighbors(MazeGrid.Cell cell) {
-        List<MazeGrid.Cell> list = new ArrayList<>();
-        int[] dr = {-1, 1, 0, 0}, dc = {0, 0, -1, 1};
-        for (int i = 0; i < 4; i++) {
-            int nr = cell.r + dr[i], nc = cell.c + dc[i];
-            if (grid.isValid(nr, nc) && grid.cells[nr][nc].visitedGen) list.add(grid.cells[nr][nc]);
-        }
-        return list;
-    }
-
-    private void removeWalls(MazeGrid.Cell a, MazeGrid.Cell b) {
-        int dr = a.r - b.r, dc = a.c - b.c;
-        if (dr == 1) { a.walls[0] = false; b.walls[1] = false; }
-        if (dr == -1) { a.walls[1] = false; b.walls[0] = false; }
-        if (dc == 1) { a.walls[3] = false; b.walls[2] = false; }
-        if (dc == -1) { a.walls[2] = false; b.walls[3] = false; }
-    }
-
-    private void addRandomLoops() {
-        int loops = (MazeGrid.ROWS * MazeGrid.COLS) / 5;
-        for(int i=0; i<loops; i++) {
-            int r = (int)(Math.random()*(MazeGrid.ROWS-2)) + 1;
-            int c = (int)(Math.random()*(MazeGrid.COLS-2)) + 1;
-            MazeGrid.Cell cell = grid.cells[r][c];
-            if(Math.random() > 0.5) removeWalls(cell, grid.cells[r][c+1]);
-            else removeWalls(cell, grid.cells[r+1][c]);
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package MazeGame;
+
+/**
+ * Akses baca ke sebuah maze, apa pun tempat penyimpanannya (MazeGrid di heap, MappedMaze di file,
+ * OffHeapMaze di memori native). Solver headless hanya memakai method ini, jadi backend bisa dipilih
+ * sesuai ukuran maze. Setiap sel dikodekan seperti di MazeFile: bit 0-3 dinding, bit 4-5 terrain.
+ */
+public interface MazeStore {
+    int rows();
+    int cols();
+    long startIndex();
+    long endIndex();
+    int cellBits(long index);
+
+    default long cellCount() { return (long) rows() * cols(); }
+
+    default boolean isOpen(long index, int dir) { return (cellBits(index) & (1 << dir)) == 0; }
+
+    default int weight(long index) { return MazeFile.terrainWeight((cellBits(index) >> 4) & 3); }
+
+    /** Indeks tetangga ke arah dir, atau -1 kalau di luar grid. */
+    default long neighbor(long index, int dir) {
+        int cols = cols();
+        long r = index / cols + MazeGrid.DR[dir];
+        long c = index % cols + MazeGrid.DC[dir];
+        if (r < 0 || c < 0 || r >= rows() || c >= cols) return -1;
+        return r * cols + c;
+    }
+}
@@ -0,0 +1,297 @@
+package MazeGame;
+
+import java.util.*;
+
+/**
+ * Cooperative pathfinding untuk banyak agen sekaligus (Windowed HCA*). Setiap agen merencanakan
+ * 'window' langkah dengan A* ruang-waktu di atas ReservationTable, berurutan sesuai prioritas,
+ * dan menghindari sel/edge yang sudah dipesan agen berprioritas lebih tinggi.
+ * Perencanaan window berikutnya dicicil selama window sekarang berjalan: sisa agen dibagi rata ke sisa tick,
+ * tapi kerja satu tick (node A* + sel BFS heuristik) dibatasi TICK_WORK_BUDGET, jadi waktu per tick tetap
+ * terbatas berapa pun jumlah agennya. Agen yang belum sempat direncanakan menunggu di tempat satu window.
+ * Heuristiknya jarak langkah sebenarnya ke goal (BFS mundur, di-cache per goal).
+ */
+public class MultiAgentPlanner {
+    public static final int MAX_EXPANSIONS = 4096;
+    public static final long TICK_WORK_BUDGET = 1L << 18;
+    private static final int INF = Integer.MAX_VALUE;
+    private static final long MAX_CACHED_BYTES = 256L << 20;
+
+    private final MazeStore store;
+    private final int n;
+    private final int window;
+    private final int agentCount;
+    private final Random rng;
+
+    private final int[] pos, goal, intended;
+    private int[][] plan, nextPlan;
+    private final boolean[] nextPlanned, conflicted;
+    private ReservationTable table, nextTable;
+    private final int[] order;
+    private int tickInWindow = 0, nextToPlan = 0;
+
+    // Scratch A* ruang-waktu, direset dengan stamp
+    private final int[] stateStamp, stateParent;
+    private int stateMark = 0;
+    private final LongMinHeap heap = new LongMinHeap();
+    private final int[] cellStamp, cellAgent;
+    private final int[] posOwner;
+    private int cellMark = 0;
+    private final Map<Integer, int[]> distCache;
+
+    public long ticks = 0, replans = 0, failedPlans = 0, conflicts = 0, arrivals = 0, nodesExpanded = 0;
+    public long lastTickNanos = 0, maxTickNanos = 0, totalTickNanos = 0;
+    private long tickWork = 0;
+
+    public MultiAgentPlanner(MazeStore store, int agentCount, int window, long seed) {
+        if (store.cellCount() * (window + 1L) > Integer.MAX_VALUE) throw new IllegalArgumentException("Maze terlalu besar untuk window " + window);
+        this.store = store;
+        this.n = (int) store.cellCount();
+        this.window = window;
+        this.agentCount = Math.min(agentCount, n / 2);
+        this.rng = new Random(seed);
+        pos = new int[this.agentCount];
+        goal = new int[this.agentCount];
+        intended = new int[this.agentCount];
+        plan = new int[this.agentCount][window + 1];
+        nextPlan = new int[this.agentCount][window + 1];
+        nextPlanned = new boolean[this.agentCount];
+        conflicted = new boolean[this.agentCount];
+        order = new int[this.agentCount];
+        table = new ReservationTable(n, this.agentCount * (window + 1) * 2);
+        nextTable = new ReservationTable(n, this.agentCount * (window + 1) * 2);
+        stateStamp = new int[n * (window + 1)];
+        stateParent = new int[n * (window + 1)];
+        cellStamp = new int[n];
+        cellAgent = new int[n];
+        posOwner = new int[n];
+        Arrays.fill(posOwner, -1);
+        int cachedGoals = (int) Math.max(4, Math.min(4096, MAX_CACHED_BYTES / (4L * n)));
+        distCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<Integer, int[]> e) { return size() > cachedGoals; }
+        };
+
+        placeAgents();
+        // Window pertama direncanakan sekaligus; setelah itu selalu dicicil per tick
+        for (int a = 0; a < this.agentCount; a++) { order[a] = a; Arrays.fill(plan[a], pos[a]); }
+        startPlanningWindow();
+        while (nextToPlan < this.agentCount) planNext(order[nextToPlan++]);
+        swapWindows();
+    }
+
+    public int agentCount() { return agentCount; }
+    public int window() { return window; }
+    public int positionOf(int agent) { return pos[agent]; }
+    public int goalOf(int agent) { return goal[agent]; }
+    /** Salinan posisi/goal semua agen, aman diserahkan ke thread lain. */
+    public int[] positions() { return pos.clone(); }
+    public int[] goals() { return goal.clone(); }
+    public double averageTickMillis() { return ticks == 0 ? 0 : totalTickNanos / 1e6 / ticks; }
+
+    /** Satu langkah simulasi: jalankan rencana semua agen, lalu cicil perencanaan window berikutnya. */
+    public void tick() {
+        long t0 = System.nanoTime();
+        executeStep();
+        int ticksLeft = window - tickInWindow;
+        int quota = (agentCount - nextToPlan + ticksLeft - 1) / ticksLeft;
+        tickWork = 0;
+        while (quota-- > 0 && nextToPlan < agentCount && tickWork < TICK_WORK_BUDGET) planNext(order[nextToPlan++]);
+        if (++tickInWindow == window) swapWindows();
+        ticks++;
+        lastTickNanos = System.nanoTime() - t0;
+        totalTickNanos += lastTickNanos;
+        maxTickNanos = Math.max(maxTickNanos, lastTickNanos);
+    }
+
+    private void executeStep() {
+        int t = tickInWindow;
+        for (int a = 0; a < agentCount; a++) {
+            intended[a] = plan[a][t] == pos[a] ? plan[a][t + 1] : pos[a];
+            conflicted[a] = false;
+        }
+        // Selesaikan bentrokan sampai stabil: yang kalah diam di tempat (posisi sekarang selalu unik)
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            cellMark++;
+            for (int i = 0; i < agentCount; i++) {
+                int a = order[i];
+                int target = intended[a];
+                int other = posOwner[target];
+                if (target != pos[a] && other >= 0 && other != a && intended[other] == pos[a]) {
+                    changed |= revert(a) | revert(other);
+                    continue;
+                }
+                if (cellStamp[target] == cellMark) {
+                    int holder = cellAgent[target];
+                    if (target == pos[a]) { changed |= revert(holder); cellAgent[target] = a; }
+                    else changed |= revert(a);
+                    continue;
+                }
+                cellStamp[target] = cellMark;
+                cellAgent[target] = a;
+            }
+        }
+        for (int a = 0; a < agentCount; a++) posOwner[pos[a]] = -1;
+        for (int a = 0; a < agentCount; a++) {
+            pos[a] = intended[a];
+            posOwner[pos[a]] = a;
+            if (conflicted[a]) conflicts++;
+            if (pos[a] == goal[a]) {
+                arrivals++;
+                goal[a] = randomGoal(pos[a]);
+            }
+        }
+    }
+
+    private boolean revert(int a) {
+        if (intended[a] == pos[a]) return false;
+        intended[a] = pos[a];
+        conflicted[a] = true;
+        return true;
+    }
+
+    private void startPlanningWindow() {
+        nextTable.clear();
+        Arrays.fill(nextPlanned, false);
+        for (int a = 0; a < agentCount; a++) nextTable.reserve(plan[a][window], 0, a);
+        nextToPlan = 0;
+    }
+
+    private void swapWindows() {
+        for (int a = 0; a < agentCount; a++) {
+            // Rencana yang dibuat dari posisi yang ternyata tidak tercapai (karena bentrok) diganti diam di tempat
+            if (!nextPlanned[a]) failedPlans++;
+            if (!nextPlanned[a] || nextPlan[a][0] != pos[a]) Arrays.fill(nextPlan[a], pos[a]);
+        }
+        int[][] p = plan; plan = nextPlan; nextPlan = p;
+        ReservationTable rt = table; table = nextTable; nextTable = rt;
+        tickInWindow = 0;
+        // Prioritas diputar tiap window supaya agen yang sama tidak selalu mengalah
+        if (agentCount > 1) {
+            int first = order[0];
+            System.arraycopy(order, 1, order, 0, agentCount - 1);
+            order[agentCount - 1] = first;
+        }
+        startPlanningWindow();
+    }
+
+    /** A* ruang-waktu untuk satu agen di window berikutnya, mulai dari posisi akhir rencananya sekarang. */
+    private void planNext(int a) {
+        replans++;
+        int start = plan[a][window];
+        int[] h = distancesTo(goal[a]);
+        int[] out = nextPlan[a];
+        nextPlanned[a] = true;
+        if (h[start] == INF) { stay(a, start); failedPlans++; goal[a] = randomGoal(start); return; }
+
+        stateMark++;
+        heap.clear();
+        int stateCount = n * (window + 1);
+        stateStamp[start] = stateMark;
+        stateParent[start] = -1;
+        heap.push(LongMinHeap.pack(h[start], stateCount - 1 - start));
+        int expansions = 0, terminal = -1;
+        while (!heap.isEmpty() && expansions < MAX_EXPANSIONS) {
+            int s = stateCount - 1 - LongMinHeap.index(heap.pop());
+            int t = s / n, cell = s % n;
+            if (t == window || (cell == goal[a] && goalFreeUntilEnd(cell, t, a))) { terminal = s; break; }
+            expansions++;
+            int bits = store.cellBits(cell);
+            for (int action = 0; action < 5; action++) {
+                int next = cell;
+                if (action < 4) {
+                    if ((bits & (1 << action)) != 0) continue;
+                    long nb = store.neighbor(cell, action);
+                    if (nb < 0) continue;
+                    next = (int) nb;
+                    if (nextTable.isSwapBlocked(cell, action, next, t, a)) continue;
+                }
+                if (h[next] == INF || !nextTable.isFree(next, t + 1, a)) continue;
+                int ns = (t + 1) * n + next;
+                if (stateStamp[ns] == stateMark) continue;
+                stateStamp[ns] = stateMark;
+                stateParent[ns] = s;
+                heap.push(LongMinHeap.pack(t + 1 + h[next], stateCount - 1 - ns));
+            }
+        }
+        nodesExpanded += expansions;
+        tickWork += expansions;
+        if (terminal < 0) { stay(a, start); failedPlans++; return; }
+
+        int tEnd = terminal / n;
+        for (int t = tEnd + 1; t <= window; t++) out[t] = terminal % n;
+        for (int s = terminal; s >= 0; s = stateParent[s]) out[s / n] = s % n;
+        for (int t = 0; t <= window; t++) {
+            nextTable.reserve(out[t], t, a);
+            if (t < window && out[t] != out[t + 1]) nextTable.reserveEdge(out[t], directionTo(out[t], out[t + 1]), t, a);
+        }
+    }
+
+    private void stay(int a, int cell) {
+        Arrays.fill(nextPlan[a], cell);
+        for (int t = 0; t <= window; t++) if (nextTable.isFree(cell, t, a)) nextTable.reserve(cell, t, a);
+    }
+
+    private boolean goalFreeUntilEnd(int cell, int from, int a) {
+        for (int t = from; t <= window; t++) if (!nextTable.isFree(cell, t, a)) return false;
+        return true;
+    }
+
+    private int directionTo(int from, int to) {
+        int diff = to - from, cols = store.cols();
+        if (diff == -cols) return 0;
+        if (diff == cols) return 1;
+        return diff == 1 ? 2 : 3;
+    }
+
+    // Jarak langkah dari setiap sel ke goal (BFS mundur), di-cache per goal
+    private int[] distancesTo(int target) {
+        int[] dist = distCache.get(target);
+        if (dist != null) return dist;
+        dist = new int[n];
+        Arrays.fill(dist, INF);
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+        dist[target] = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int u = queue[head++];
+            int bits = store.cellBits(u);
+            for (int dir = 0; dir < 4; dir++) {
+                if ((bits & (1 << dir)) != 0) continue;
+                long v = store.neighbor(u, dir);
+                if (v < 0 || dist[(int) v] != INF) continue;
+                dist[(int) v] = dist[u] + 1;
+                queue[tail++] = (int) v;
+            }
+        }
+        tickWork += tail;
+        distCache.put(target, dist);
+        return dist;
+    }
+
+    private void placeAgents() {
+        for (int a = 0; a < agentCount; a++) {
+            int cell;
+            do { cell = rng.nextInt(n); } while (posOwner[cell] >= 0);
+            pos[a] = cell;
+            posOwner[cell] = a;
+        }
+        for (int a = 0; a < agentCount; a++) goal[a] = randomGoal(pos[a]);
+    }
+
+    // Untuk MazeGrid keterhubungan dicek lewat union-find; backend lain dicek saat perencanaan (h[start] == INF)
+    private int randomGoal(int from) {
+        for (int attempt = 0; attempt < 32; attempt++) {
+            int cell = rng.nextInt(n);
+            if (cell == from) continue;
+            if (store instanceof MazeGrid) {
+                MazeGrid grid = (MazeGrid) store;
+                if (!grid.isReachable(grid.cellAt(from), grid.cellAt(cell))) continue;
+            }
+            return cell;
+        }
+        return from;
+    }
+}
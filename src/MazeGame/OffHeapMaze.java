@@ -0,0 +1,165 @@
+package MazeGame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Backend maze di luar heap: dinding+terrain (1 byte per sel) dan scratch solver disimpan di direct
+ * ByteBuffer berpotongan 1 GB, jadi tidak kena batas ukuran array dan tidak menambah beban GC.
+ * Maze ini adalah arena: semua scratch yang dibuat lewat newScratch() ikut berakhir saat close(),
+ * dan akses setelah close() melempar IllegalStateException. close() mengembalikan semua buffer ke
+ * DirectBuffers supaya dipakai maze berikutnya, bukan menunggu GC melepas memori native; karena itu
+ * close() hanya boleh dipanggil kalau tidak ada thread lain yang masih memakai maze/scratch-nya.
+ * Kalau belum pasti (thread solver tidak mau berhenti), pakai abandon(): buffer tidak dipakai ulang
+ * dan baru dilepas GC, jadi thread yang tertinggal tidak bisa merusak maze lain.
+ * (Foreign Memory API masih incubator di Java 17, jadi dipakai direct ByteBuffer.)
+ */
+public class OffHeapMaze implements MazeStore, AutoCloseable {
+    private static final int SHIFT = 30;
+    private static final long MASK = (1L << SHIFT) - 1;
+    private static final int LONG_SHIFT = 27; // 2^27 long = 1 GB per potongan
+    private static final long LONG_MASK = (1L << LONG_SHIFT) - 1;
+
+    private final int rows, cols;
+    private long startIndex, endIndex;
+    public long seed = 0;
+    private volatile ByteBuffer[] chunks;
+    private final List<Scratch> scratches = new ArrayList<>();
+
+    /** Maze baru dengan semua dinding tertutup dan terrain rumput, start kiri atas dan end kanan bawah. */
+    public OffHeapMaze(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.startIndex = 0;
+        this.endIndex = (long) rows * cols - 1;
+        chunks = allocate((long) rows * cols, SHIFT, 1);
+        for (ByteBuffer chunk : chunks) {
+            for (int i = 0; i < chunk.capacity(); i++) chunk.put(i, (byte) 0x0F);
+        }
+    }
+
+    public static OffHeapMaze copyOf(MazeStore source) {
+        OffHeapMaze maze = new OffHeapMaze(source.rows(), source.cols());
+        long n = source.cellCount();
+        for (long i = 0; i < n; i++) maze.setCellBits(i, source.cellBits(i));
+        maze.startIndex = source.startIndex();
+        maze.endIndex = source.endIndex();
+        if (source instanceof MazeGrid) maze.seed = ((MazeGrid) source).seed;
+        if (source instanceof MappedMaze) maze.seed = ((MappedMaze) source).seed;
+        return maze;
+    }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public long startIndex() { return startIndex; }
+    @Override public long endIndex() { return endIndex; }
+
+    @Override
+    public int cellBits(long index) {
+        return chunks()[(int) (index >>> SHIFT)].get((int) (index & MASK)) & 0xFF;
+    }
+
+    public void setCellBits(long index, int bits) {
+        chunks()[(int) (index >>> SHIFT)].put((int) (index & MASK), (byte) bits);
+    }
+
+    public void setStart(long index) { startIndex = index; }
+    public void setEnd(long index) { endIndex = index; }
+
+    public void setWeight(long index, int weight) {
+        setCellBits(index, (cellBits(index) & 0x0F) | (MazeFile.terrainCode(weight) << 4));
+    }
+
+    public void removeWall(long index, int dir) {
+        long other = neighbor(index, dir);
+        if (other < 0) return;
+        setCellBits(index, cellBits(index) & ~(1 << dir));
+        setCellBits(other, cellBits(other) & ~(1 << (dir ^ 1)));
+    }
+
+    /** Scratch solver di memori native, umurnya mengikuti maze ini (atau sampai releaseScratch). */
+    public synchronized SearchScratch newScratch() {
+        Scratch scratch = new Scratch(cellCount());
+        scratches.add(scratch);
+        return scratch;
+    }
+
+    /** Kembalikan scratch lebih awal, misalnya setelah satu kali solve. */
+    public synchronized void releaseScratch(SearchScratch scratch) {
+        if (scratch instanceof Scratch && scratches.remove(scratch)) ((Scratch) scratch).release(true);
+    }
+
+    @Override
+    public void close() { close(true); }
+
+    /** Tutup tanpa mengembalikan buffer ke pool, untuk saat thread lain mungkin masih memegangnya. */
+    public void abandon() { close(false); }
+
+    private synchronized void close(boolean reuse) {
+        ByteBuffer[] c = chunks;
+        chunks = null;
+        if (reuse && c != null) for (ByteBuffer chunk : c) DirectBuffers.release(chunk);
+        for (Scratch scratch : scratches) scratch.release(reuse);
+        scratches.clear();
+    }
+
+    private ByteBuffer[] chunks() {
+        ByteBuffer[] c = chunks;
+        if (c == null) throw new IllegalStateException("OffHeapMaze sudah ditutup");
+        return c;
+    }
+
+    private static ByteBuffer[] allocate(long count, int shift, int bytesPerCell) {
+        long perChunk = 1L << shift;
+        int n = (int) ((count + perChunk - 1) / perChunk);
+        ByteBuffer[] result = new ByteBuffer[Math.max(1, n)];
+        for (int i = 0; i < result.length; i++) {
+            long cells = Math.min(perChunk, count - i * perChunk);
+            result[i] = DirectBuffers.acquire((int) (Math.max(0, cells) * bytesPerCell));
+        }
+        return result;
+    }
+
+    private static class Scratch implements SearchScratch {
+        private volatile ByteBuffer[] dist, mark;
+
+        Scratch(long cellCount) {
+            dist = allocate(cellCount, LONG_SHIFT, Long.BYTES);
+            mark = allocate(cellCount, SHIFT, 1);
+        }
+
+        private ByteBuffer[] distChunks() {
+            ByteBuffer[] d = dist;
+            if (d == null) throw new IllegalStateException("Scratch off-heap sudah dilepas");
+            return d;
+        }
+
+        private ByteBuffer[] markChunks() {
+            ByteBuffer[] m = mark;
+            if (m == null) throw new IllegalStateException("Scratch off-heap sudah dilepas");
+            return m;
+        }
+
+        @Override public long dist(long i) { return distChunks()[(int) (i >>> LONG_SHIFT)].getLong((int) (i & LONG_MASK) * Long.BYTES); }
+        @Override public void setDist(long i, long v) { distChunks()[(int) (i >>> LONG_SHIFT)].putLong((int) (i & LONG_MASK) * Long.BYTES, v); }
+        @Override public int mark(long i) { return markChunks()[(int) (i >>> SHIFT)].get((int) (i & MASK)); }
+        @Override public void setMark(long i, int v) { markChunks()[(int) (i >>> SHIFT)].put((int) (i & MASK), (byte) v); }
+
+        @Override
+        public void clear() {
+            for (ByteBuffer[] buffers : new ByteBuffer[][]{distChunks(), markChunks()}) {
+                for (ByteBuffer b : buffers) DirectBuffers.zero(b);
+            }
+        }
+
+        void release(boolean reuse) {
+            ByteBuffer[] d = dist, m = mark;
+            dist = null;
+            mark = null;
+            if (!reuse) return;
+            if (d != null) for (ByteBuffer b : d) DirectBuffers.release(b);
+            if (m != null) for (ByteBuffer b : m) DirectBuffers.release(b);
+        }
+    }
+}
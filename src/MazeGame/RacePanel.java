@@ -0,0 +1,136 @@
+package MazeGame;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+
+/**
+ * Tampilan Mode Balap: satu peta kecil per algoritma (sel yang sudah dijelajah + jalur akhir)
+ * dan tabel statistik yang diperbarui selama balapan berjalan.
+ */
+public class RacePanel extends JPanel {
+    private static final int REFRESH_MS = 50;
+    private static final Color COLOR_OPEN = new Color(120, 170, 255);
+    private static final Color COLOR_CLOSED = new Color(40, 90, 200);
+    private static final String[] COLUMNS = {"Algoritma", "Status", "Node Dicek", "Frontier Max", "Waktu (ms)", "Biaya"};
+
+    private final MazeRace race;
+    private final StatsModel stats = new StatsModel();
+    private final Timer refresher;
+
+    public RacePanel(MazeRace race) {
+        this.race = race;
+        setLayout(new BorderLayout(8, 8));
+        setBackground(Color.BLACK);
+
+        JPanel views = new JPanel(new GridLayout(1, race.lanes.length, 6, 6));
+        views.setBackground(Color.BLACK);
+        for (MazeRace.Lane lane : race.lanes) views.add(new LaneView(lane));
+        add(views, BorderLayout.CENTER);
+
+        JTable table = new JTable(stats);
+        table.setFont(MazeGameMain.mcFont);
+        table.setRowHeight(22);
+        table.getTableHeader().setFont(MazeGameMain.mcFont);
+        JScrollPane scroll = new JScrollPane(table);
+        scroll.setPreferredSize(new Dimension(0, 26 + 22 * race.lanes.length));
+        add(scroll, BorderLayout.SOUTH);
+
+        refresher = new Timer(REFRESH_MS, e -> {
+            stats.fireTableRowsUpdated(0, race.lanes.length - 1);
+            repaint();
+            if (race.isFinished()) ((Timer) e.getSource()).stop();
+        });
+    }
+
+    public void start() {
+        race.start();
+        refresher.start();
+    }
+
+    public void stop() {
+        refresher.stop();
+        race.close();
+    }
+
+    private class StatsModel extends AbstractTableModel {
+        @Override public int getRowCount() { return race.lanes.length; }
+        @Override public int getColumnCount() { return COLUMNS.length; }
+        @Override public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            MazeRace.Lane lane = race.lanes[row];
+            StoreSolver.Result result = lane.result;
+            switch (column) {
+                case 0: return lane.config;
+                case 1: return lane.error != null ? lane.error : result == null ? "Berjalan..." : result.found ? "Selesai" : "Gagal";
+                case 2: return String.valueOf(result == null ? lane.progress.nodesExpanded : result.nodesExpanded);
+                case 3: return String.valueOf(result == null ? lane.progress.peakFrontier : result.peakFrontier);
+                case 4: return String.format("%.3f", lane.elapsedNanos() / 1e6);
+                default: return result == null || !result.found ? "-" : String.valueOf(result.cost);
+            }
+        }
+    }
+
+    // Peta satu lane, diskalakan supaya muat; membaca scratch lane secara langsung (cukup untuk visualisasi)
+    private class LaneView extends JComponent {
+        private final MazeRace.Lane lane;
+
+        LaneView(MazeRace.Lane lane) {
+            this.lane = lane;
+            setPreferredSize(new Dimension(220, 220));
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g;
+            OffHeapMaze maze = race.snapshot;
+            int rows = maze.rows(), cols = maze.cols();
+            int titleH = 20;
+            float cell = Math.min(getWidth() / (float) cols, (getHeight() - titleH) / (float) rows);
+            int xOff = (int) ((getWidth() - cols * cell) / 2), yOff = titleH;
+
+            g2.setColor(Color.DARK_GRAY);
+            g2.fillRect(xOff, yOff, (int) (cols * cell), (int) (rows * cell));
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    int mark = lane.scratch.mark((long) r * cols + c);
+                    if (mark == 0) continue;
+                    g2.setColor((mark & SearchScratch.MARK_CLOSED) != 0 ? COLOR_CLOSED : COLOR_OPEN);
+                    g2.fillRect(xOff + (int) (c * cell), yOff + (int) (r * cell), (int) Math.ceil(cell), (int) Math.ceil(cell));
+                }
+            }
+            // Dinding hanya digambar kalau selnya cukup besar untuk terlihat
+            if (cell >= 4) {
+                g2.setColor(Color.WHITE);
+                for (int r = 0; r < rows; r++) {
+                    for (int c = 0; c < cols; c++) {
+                        int bits = maze.cellBits((long) r * cols + c);
+                        int x = xOff + (int) (c * cell), y = yOff + (int) (r * cell), x2 = xOff + (int) ((c + 1) * cell), y2 = yOff + (int) ((r + 1) * cell);
+                        if ((bits & 1) != 0) g2.drawLine(x, y, x2, y);
+                        if ((bits & 2) != 0) g2.drawLine(x, y2, x2, y2);
+                        if ((bits & 4) != 0) g2.drawLine(x2, y, x2, y2);
+                        if ((bits & 8) != 0) g2.drawLine(x, y, x, y2);
+                    }
+                }
+            }
+
+            StoreSolver.Result result = lane.result;
+            if (result != null && result.found) {
+                g2.setColor(Color.RED);
+                g2.setStroke(new BasicStroke(Math.max(1f, cell / 4)));
+                for (int i = 1; i < result.path.length; i++) {
+                    long a = result.path[i - 1], b = result.path[i];
+                    g2.drawLine(xOff + (int) ((a % cols + 0.5f) * cell), yOff + (int) ((a / cols + 0.5f) * cell),
+                            xOff + (int) ((b % cols + 0.5f) * cell), yOff + (int) ((b / cols + 0.5f) * cell));
+                }
+                g2.setStroke(new BasicStroke(1));
+            }
+
+            g2.setFont(MazeGameMain.mcFont);
+            g2.setColor(Color.WHITE);
+            g2.drawString(lane.config.toString(), xOff, 15);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package MazeGame;
+
+import java.util.Arrays;
+
+/**
+ * Tabel reservasi ruang-waktu: (sel, waktu) -> agen, plus reservasi edge supaya dua agen tidak
+ * bertukar tempat dalam satu tick. Hash open addressing dengan kunci long, tanpa boxing.
+ */
+public class ReservationTable {
+    private static final long EMPTY = -1L;
+    private static final long EDGE_FLAG = 1L << 62;
+
+    private final long cellCount;
+    private long[] keys;
+    private int[] owners;
+    private int size = 0;
+
+    public ReservationTable(long cellCount, int expected) {
+        this.cellCount = cellCount;
+        int cap = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+        keys = new long[cap];
+        owners = new int[cap];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    public int size() { return size; }
+
+    public void reserve(long cell, int time, int agent) { put(vertexKey(cell, time), agent); }
+
+    /** Agen bergerak dari 'from' (waktu t) ke 'to' (waktu t + 1). */
+    public void reserveEdge(long from, int dir, int time, int agent) { put(edgeKey(from, dir, time), agent); }
+
+    public int ownerAt(long cell, int time) { return get(vertexKey(cell, time)); }
+
+    public boolean isFree(long cell, int time, int agent) {
+        int owner = ownerAt(cell, time);
+        return owner < 0 || owner == agent;
+    }
+
+    /** True kalau agen lain bergerak dari 'to' ke 'from' di waktu yang sama (tukar tempat). */
+    public boolean isSwapBlocked(long from, int dir, long to, int time, int agent) {
+        int owner = get(edgeKey(to, dir ^ 1, time));
+        return owner >= 0 && owner != agent;
+    }
+
+    private long vertexKey(long cell, int time) { return (long) time * cellCount + cell; }
+    private long edgeKey(long from, int dir, int time) { return EDGE_FLAG | (((long) time * cellCount + from) << 2) | dir; }
+
+    private void put(long key, int agent) {
+        if ((size + 1) * 2 > keys.length) grow();
+        int i = slot(key);
+        while (keys[i] != EMPTY && keys[i] != key) i = (i + 1) & (keys.length - 1);
+        if (keys[i] == EMPTY) size++;
+        keys[i] = key;
+        owners[i] = agent;
+    }
+
+    private int get(long key) {
+        int i = slot(key);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == key) return owners[i];
+            i = (i + 1) & (keys.length - 1);
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & (keys.length - 1);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldOwners = owners;
+        keys = new long[oldKeys.length * 2];
+        owners = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) if (oldKeys[i] != EMPTY) put(oldKeys[i], oldOwners[i]);
+    }
+}
@@ -0,0 +1,42 @@
+package MazeGame;
+
+/**
+ * Pengaturan satu pencarian: algoritma, heuristik, epsilon (Weighted A*) dan tabel biaya terrain.
+ * Objeknya immutable; variasi dibuat lewat with*().
+ */
+public class SearchConfig {
+    public final SearchMethod method;
+    public final Heuristic.Kind heuristic;
+    public final double epsilon;
+    public final TerrainCosts costs;
+
+    public SearchConfig(SearchMethod method, Heuristic.Kind heuristic, double epsilon, TerrainCosts costs) {
+        if (epsilon < 1.0) throw new IllegalArgumentException("Epsilon minimal 1: " + epsilon);
+        this.method = method;
+        this.heuristic = heuristic;
+        this.epsilon = epsilon;
+        this.costs = costs;
+    }
+
+    public static SearchConfig of(SearchMethod method) {
+        return new SearchConfig(method, method.defaultHeuristic, 1.0, TerrainCosts.DEFAULT);
+    }
+
+    public SearchConfig withHeuristic(Heuristic.Kind heuristic) { return new SearchConfig(method, heuristic, epsilon, costs); }
+    public SearchConfig withEpsilon(double epsilon) { return new SearchConfig(method, heuristic, epsilon, costs); }
+    public SearchConfig withCosts(TerrainCosts costs) { return new SearchConfig(method, heuristic, epsilon, costs); }
+
+    /** Biaya langkah yang dipakai pencarian: tabel terrain untuk metode berbobot, 1 untuk BFS/DFS. */
+    public TerrainCosts stepCosts() { return method.weighted ? costs : TerrainCosts.UNIFORM; }
+
+    /** Heuristik yang sudah terikat ke maze dan goal-nya; dipanggil sekali di awal pencarian. */
+    public Heuristic heuristicFor(MazeStore maze) {
+        return heuristic.bind(maze, maze.endIndex(), stepCosts()).weighted(epsilon);
+    }
+
+    @Override public String toString() {
+        String name = method.name();
+        if (heuristic != method.defaultHeuristic) name += " (" + heuristic.label + ")";
+        return epsilon == 1.0 ? name : String.format("%s e=%.1f", name, epsilon);
+    }
+}
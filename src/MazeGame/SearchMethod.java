@@ -0,0 +1,18 @@
+package MazeGame;
+
+/** Algoritma pencarian yang tersedia, beserta sifatnya; dipakai solver animasi maupun headless. */
+public enum SearchMethod {
+    BFS(false, Heuristic.Kind.ZERO),
+    DFS(false, Heuristic.Kind.ZERO),
+    DIJKSTRA(true, Heuristic.Kind.ZERO),
+    ASTAR(true, Heuristic.Kind.MANHATTAN);
+
+    /** true kalau biaya terrain dipakai (antrian prioritas), false kalau setiap langkah dianggap sama. */
+    public final boolean weighted;
+    public final Heuristic.Kind defaultHeuristic;
+
+    SearchMethod(boolean weighted, Heuristic.Kind defaultHeuristic) {
+        this.weighted = weighted;
+        this.defaultHeuristic = defaultHeuristic;
+    }
+}
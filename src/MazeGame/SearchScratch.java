@@ -0,0 +1,40 @@
+package MazeGame;
+
+/**
+ * Memori kerja solver per sel: jarak (long, disimpan sebagai g + 1, 0 = belum dikunjungi) dan mark
+ * (0 = belum dikunjungi, 1-4 = arah ke parent + 1, 5 = start, +8 = sudah final).
+ */
+public interface SearchScratch {
+    int MARK_START = 5;
+    int MARK_CLOSED = 8;
+
+    long dist(long index);
+    void setDist(long index, long value);
+    int mark(long index);
+    void setMark(long index, int value);
+    void clear();
+
+    static SearchScratch onHeap(long cellCount) {
+        if (cellCount > Integer.MAX_VALUE - 8) throw new IllegalArgumentException("Maze terlalu besar untuk scratch di heap: " + cellCount);
+        return new Heap((int) cellCount);
+    }
+
+    class Heap implements SearchScratch {
+        private final long[] dist;
+        private final byte[] mark;
+
+        Heap(int cellCount) {
+            dist = new long[cellCount];
+            mark = new byte[cellCount];
+        }
+
+        @Override public long dist(long index) { return dist[(int) index]; }
+        @Override public void setDist(long index, long value) { dist[(int) index] = value; }
+        @Override public int mark(long index) { return mark[(int) index]; }
+        @Override public void setMark(long index, int value) { mark[(int) index] = (byte) value; }
+        @Override public void clear() {
+            java.util.Arrays.fill(dist, 0L);
+            java.util.Arrays.fill(mark, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package MazeGame;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serah-terima state pencarian dari thread solver ke EDT. Solver mengumpulkan perubahan (sel baru yang
+ * dikunjungi, node sekarang, jalur, posisi agen, snapshot dinding/terrain saat generate animasi) lalu
+ * publish() membungkusnya jadi satu Frame immutable
+ * di sebuah AtomicReference. Painter cukup take() tanpa lock; kalau painter tertinggal, frame yang belum
+ * diambil digabung ke frame berikutnya sehingga delta visited tidak pernah hilang.
+ */
+public class SolverFrames {
+    public static final class Frame {
+        public final boolean reset;
+        public final BitSet visitedDelta;
+        public final int current;
+        public final boolean pathChanged;
+        public final CompactPath path;
+        public final int[] agentCells, agentGoals;
+        // Snapshot penuh bit per sel (format MazeFile.encodeCell), atau null kalau tidak ada snapshot baru;
+        // setelah diambil painter, array ini miliknya dan boleh diubah
+        public final byte[] cells;
+        // Perubahan sel sesudah snapshot: pasangan (index, bits) berurutan, atau null
+        public final int[] cellChanges;
+
+        Frame(boolean reset, BitSet visitedDelta, int current, boolean pathChanged, CompactPath path, int[] agentCells, int[] agentGoals, byte[] cells, int[] cellChanges) {
+            this.reset = reset; this.visitedDelta = visitedDelta; this.current = current;
+            this.pathChanged = pathChanged; this.path = path;
+            this.agentCells = agentCells; this.agentGoals = agentGoals;
+            this.cells = cells; this.cellChanges = cellChanges;
+        }
+    }
+
+    private final AtomicReference<Frame> slot = new AtomicReference<>();
+
+    // State sisi produsen; lock ini hanya dipakai produsen, painter tidak pernah menunggunya
+    private BitSet pendingDelta = new BitSet();
+    private boolean pendingReset = false, pathChanged = false;
+    private int current = -1;
+    private CompactPath path;
+    private int[] agentCells, agentGoals;
+    private byte[] cells;
+    private int[] pendingChanges = new int[16];
+    private int changeCount = 0;
+
+    /** Mulai dari kosong: visited, node sekarang, jalur dan agen dihapus di frame berikutnya. */
+    public synchronized void reset() {
+        pendingDelta = new BitSet();
+        pendingReset = true;
+        current = -1;
+        path = null;
+        pathChanged = true;
+        agentCells = agentGoals = null;
+    }
+
+    public synchronized void markVisited(int index) { pendingDelta.set(index); }
+    public synchronized void setCurrent(int index) { current = index; }
+
+    /** Jalur tidak boleh diubah lagi oleh thread lain setelah diserahkan (kecuali oleh EDT sendiri). */
+    public synchronized void setPath(CompactPath path) { this.path = path; pathChanged = true; }
+
+    /** Array disalin pemanggil; setelah diserahkan tidak boleh diubah. */
+    public synchronized void setAgents(int[] cells, int[] goals) { agentCells = cells; agentGoals = goals; }
+
+    /** Snapshot dinding/terrain seluruh grid; array baru setiap kali dan tidak boleh diubah lagi. */
+    public synchronized void setCells(byte[] cells) { this.cells = cells; changeCount = 0; }
+
+    /** Satu sel berubah sejak snapshot terakhir (misalnya dinding dibuka generator). */
+    public synchronized void setCell(int index, int bits) {
+        if (changeCount + 2 > pendingChanges.length) pendingChanges = Arrays.copyOf(pendingChanges, pendingChanges.length * 2);
+        pendingChanges[changeCount++] = index;
+        pendingChanges[changeCount++] = bits;
+    }
+
+    public synchronized void publish() {
+        BitSet delta = pendingDelta;
+        pendingDelta = new BitSet();
+        boolean reset = pendingReset, changed = pathChanged;
+        pendingReset = false;
+        pathChanged = false;
+        byte[] snapshot = cells;
+        cells = null;
+        int[] changes = changeCount == 0 ? null : Arrays.copyOf(pendingChanges, changeCount);
+        changeCount = 0;
+        while (true) {
+            Frame prev = slot.get();
+            BitSet merged = delta;
+            boolean mergedReset = reset, mergedChanged = changed;
+            byte[] mergedCells = snapshot;
+            int[] mergedChanges = changes;
+            // Perubahan sel frame lama ikut dibawa kecuali frame baru membawa snapshot penuh
+            if (prev != null && snapshot == null) {
+                mergedCells = prev.cells;
+                mergedChanges = concat(prev.cellChanges, changes);
+            }
+            // Frame lama belum diambil painter: gabungkan delta-nya, kecuali frame baru memang mereset semuanya
+            if (prev != null) {
+                mergedChanged |= prev.pathChanged;
+                if (!reset) {
+                    merged = (BitSet) prev.visitedDelta.clone();
+                    merged.or(delta);
+                    mergedReset = prev.reset;
+                }
+            }
+            Frame next = new Frame(mergedReset, merged, current, mergedChanged, path, agentCells, agentGoals, mergedCells, mergedChanges);
+            if (slot.compareAndSet(prev, next)) return;
+        }
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        int[] both = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, both, a.length, b.length);
+        return both;
+    }
+
+    /** Dipanggil painter: frame terbaru, atau null kalau belum ada perubahan sejak take() terakhir. */
+    public Frame take() {
+        return slot.getAndSet(null);
+    }
+}
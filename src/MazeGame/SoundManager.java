@@ -1,76 +1,46 @@
 package MazeGame;
 
-import javax.sound.sampled.*;
-import java.io.BufferedInputStream;
-import java.io.InputStream;
-import java.net.URL;
+import GameCommon.AssetManager;
+import GameCommon.AudioMixer;
+import GameCommon.PcmSound;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Semua suara dicampur oleh AudioMixer di satu SourceDataLine dari PCM yang sudah di-decode saat aset
+ * dimuat, jadi step.wav yang diputar di setiap langkah tidak membaca file atau membuka line baru.
+ */
 public class SoundManager {
-    private static Clip bgmClip;
-    private static float currentVolume = 0.0f;
+    private static final Map<String, PcmSound> sounds = new ConcurrentHashMap<>();
+    private static float currentVolume = 1.0f; // gain linear 0-1
+    private static int bgmVoice = -1;
 
     public static void setVolume(int value) {
-        if (value <= 0) {
-            currentVolume = -80.0f;
-        } else {
-            currentVolume = 20.0f * (float) Math.log10(value / 100.0);
-        }
-
-        if (bgmClip != null && bgmClip.isOpen()) {
-            updateClipVolume(bgmClip);
-        }
-    }
-
-    private static void updateClipVolume(Clip clip) {
-        try {
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-            gainControl.setValue(currentVolume);
-        } catch (Exception e) {
-        }
+        currentVolume = Math.max(0, value) / 100f;
+        AudioMixer.shared().setGain(bgmVoice, currentVolume);
     }
 
     public static void playSFX(String filename) {
-        try {
-            URL url = SoundManager.class.getResource("assets/" + filename);
-            if (url == null) url = SoundManager.class.getResource("/MazeGame/assets/" + filename);
-            if (url == null) return;
-
-            InputStream bufferedIn = new BufferedInputStream(url.openStream());
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn);
-
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-
-            updateClipVolume(clip);
-
-            clip.start();
-        } catch (Exception e) { }
+        MazeEvents.Sound event = MazeEvents.Sound.start();
+        int voice = AudioMixer.shared().play(sound(filename), currentVolume);
+        event.finish(filename, false, voice >= 0);
     }
 
     public static void playMusic(String filename) {
         stopMusic();
-        try {
-            URL url = SoundManager.class.getResource("assets/" + filename);
-            if (url == null) url = SoundManager.class.getResource("/MazeGame/assets/" + filename);
-            if (url == null) return;
-
-            InputStream bufferedIn = new BufferedInputStream(url.openStream());
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn);
-
-            bgmClip = AudioSystem.getClip();
-            bgmClip.open(audioStream);
-
-            updateClipVolume(bgmClip);
-
-            bgmClip.loop(Clip.LOOP_CONTINUOUSLY);
-            bgmClip.start();
-        } catch (Exception e) { }
+        MazeEvents.Sound event = MazeEvents.Sound.start();
+        bgmVoice = AudioMixer.shared().play(sound(filename), currentVolume, true);
+        event.finish(filename, true, bgmVoice >= 0);
     }
 
     public static void stopMusic() {
-        if (bgmClip != null && bgmClip.isRunning()) {
-            bgmClip.stop();
-            bgmClip.close();
-        }
+        AudioMixer.shared().stop(bgmVoice);
+        bgmVoice = -1;
+    }
+
+    // Dicari lewat nama file saja, supaya suara yang sering diputar tidak membuat string path baru
+    private static PcmSound sound(String filename) {
+        return sounds.computeIfAbsent(filename, f -> AssetManager.sound(MazeGameMain.ASSET_PATH + f));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,202 @@
+package MazeGame;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Solver headless (tanpa animasi) untuk MazeStore apa saja. BFS, Dijkstra dan A* memakai antrian bucket
+ * (Dial), karena biaya terrain bilangan bulat kecil: dengan heuristik yang konsisten, kunci tetangga selalu
+ * di antara kunci sekarang dan kunci sekarang + 2 * biaya terbesar. Memori per sel ada di SearchScratch, jadi untuk OffHeapMaze
+ * seluruh data besar tetap di luar heap. Thread yang di-interrupt berhenti dengan CancellationException.
+ */
+public class StoreSolver {
+
+    public static class Result {
+        public final String method;
+        public final boolean found;
+        public final long cost;
+        public final long[] path; // indeks sel dari start ke end
+        public final long nodesExpanded;
+        public final long peakFrontier;
+        public final long nanos;
+
+        Result(String method, boolean found, long cost, long[] path, long nodesExpanded, long peakFrontier, long nanos) {
+            this.method = method; this.found = found; this.cost = cost; this.path = path;
+            this.nodesExpanded = nodesExpanded; this.peakFrontier = peakFrontier; this.nanos = nanos;
+        }
+
+        @Override public String toString() {
+            return String.format("%s %s | Biaya: %d | Panjang: %d | Node Dicek: %d | Frontier Max: %d | %.2f ms",
+                    method, found ? "Selesai" : "Gagal", cost, path.length, nodesExpanded, peakFrontier, nanos / 1e6);
+        }
+    }
+
+    /** Statistik sementara yang bisa dibaca thread lain (misalnya tabel Mode Balap) selama solve berjalan. */
+    public static class Progress {
+        public volatile long nodesExpanded, peakFrontier;
+    }
+
+    // Progress ditulis tiap sekian node saja supaya loop utama tidak menulis volatile di setiap langkah
+    private static final int PROGRESS_EVERY = 1 << 10;
+
+    private final MazeStore store;
+    private final SearchScratch scratch;
+    private final Progress progress;
+    private final TerrainCosts costs;
+    private final Heuristic heuristic;
+    private final int bucketCount;
+    private final long[][] buckets;
+    private final int[] bucketSize;
+    private long pending = 0, peakFrontier = 0, nodesExpanded = 0, queueOps = 0;
+
+    private StoreSolver(MazeStore store, SearchScratch scratch, SearchConfig config, Progress progress) {
+        this.store = store;
+        this.scratch = scratch;
+        this.progress = progress;
+        this.costs = config.stepCosts();
+        this.heuristic = config.heuristicFor(store);
+        bucketCount = 2 * costs.maxCost() + 2;
+        buckets = new long[bucketCount][];
+        bucketSize = new int[bucketCount];
+    }
+
+    public static Result solve(MazeStore store, SearchMethod method) {
+        return solve(store, SearchConfig.of(method));
+    }
+
+    public static Result solve(MazeStore store, SearchConfig config) {
+        if (!(store instanceof OffHeapMaze)) return solve(store, config, SearchScratch.onHeap(store.cellCount()));
+        // Scratch off-heap sementara dikembalikan ke pool begitu selesai, bukan menumpuk sampai maze di-close
+        OffHeapMaze maze = (OffHeapMaze) store;
+        SearchScratch scratch = maze.newScratch();
+        try {
+            return solve(store, config, scratch);
+        } finally {
+            maze.releaseScratch(scratch);
+        }
+    }
+
+    /** Antrian bucket butuh heuristik konsisten, jadi Weighted A* (epsilon > 1) hanya tersedia di solver animasi. */
+    public static Result solve(MazeStore store, SearchConfig config, SearchScratch scratch) {
+        return solve(store, config, scratch, null);
+    }
+
+    /** progress (boleh null) diperbarui berkala selama pencarian dan sekali lagi di akhir. */
+    public static Result solve(MazeStore store, SearchConfig config, SearchScratch scratch, Progress progress) {
+        if (config.epsilon != 1.0) throw new IllegalArgumentException("StoreSolver tidak mendukung epsilon " + config.epsilon);
+        MazeEvents.Search event = MazeEvents.Search.start();
+        long t0 = System.nanoTime();
+        scratch.clear();
+        StoreSolver solver = new StoreSolver(store, scratch, config, progress);
+        boolean found = config.method == SearchMethod.DFS ? solver.depthFirst() : solver.bucketSearch();
+        solver.reportProgress();
+        long[] path = found ? solver.tracePath() : new long[0];
+        long cost = 0;
+        for (int i = 1; i < path.length; i++) cost += config.costs.ofBits(store.cellBits(path[i]));
+        Result result = new Result(config.toString(), found, found ? cost : -1, path, solver.nodesExpanded, solver.peakFrontier, System.nanoTime() - t0);
+        event.finish(result.method, false, store, found, result.cost, solver.nodesExpanded, solver.queueOps);
+        return result;
+    }
+
+    private boolean bucketSearch() {
+        long start = store.startIndex(), end = store.endIndex();
+        long current = heuristic.estimate(start);
+        scratch.setDist(start, 1);
+        scratch.setMark(start, SearchScratch.MARK_START);
+        push(current, start);
+
+        while (pending > 0) {
+            int b = (int) (current % bucketCount);
+            if (bucketSize[b] == 0) { current++; continue; }
+            long u = buckets[b][--bucketSize[b]];
+            pending--;
+            queueOps++;
+            int mark = scratch.mark(u);
+            if ((mark & SearchScratch.MARK_CLOSED) != 0) continue;
+            long g = scratch.dist(u) - 1;
+            if (g + heuristic.estimate(u) != current) continue;
+            scratch.setMark(u, mark | SearchScratch.MARK_CLOSED);
+            nodesExpanded++;
+            checkCancelled();
+            if (u == end) return true;
+
+            int bits = store.cellBits(u);
+            for (int dir = 0; dir < 4; dir++) {
+                if ((bits & (1 << dir)) != 0) continue;
+                long v = store.neighbor(u, dir);
+                if (v < 0 || (scratch.mark(v) & SearchScratch.MARK_CLOSED) != 0) continue;
+                long ng = g + costs.ofBits(store.cellBits(v));
+                long dv = scratch.dist(v);
+                if (dv == 0 || ng + 1 < dv) {
+                    scratch.setDist(v, ng + 1);
+                    scratch.setMark(v, (dir ^ 1) + 1);
+                    push(ng + heuristic.estimate(v), v);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean depthFirst() {
+        long start = store.startIndex(), end = store.endIndex();
+        long[] stack = new long[64];
+        int top = 0;
+        stack[top++] = start;
+        queueOps++;
+        scratch.setMark(start, SearchScratch.MARK_START);
+        while (top > 0) {
+            long u = stack[--top];
+            queueOps++;
+            nodesExpanded++;
+            checkCancelled();
+            if (u == end) return true;
+            int bits = store.cellBits(u);
+            for (int dir = 0; dir < 4; dir++) {
+                if ((bits & (1 << dir)) != 0) continue;
+                long v = store.neighbor(u, dir);
+                if (v < 0 || scratch.mark(v) != 0) continue;
+                scratch.setMark(v, (dir ^ 1) + 1);
+                if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                stack[top++] = v;
+                queueOps++;
+                peakFrontier = Math.max(peakFrontier, top);
+            }
+        }
+        return false;
+    }
+
+    private void checkCancelled() {
+        if ((nodesExpanded & (PROGRESS_EVERY - 1)) == 0) reportProgress();
+        if ((nodesExpanded & 0xFFFF) == 0 && Thread.currentThread().isInterrupted()) throw new CancellationException("Dibatalkan");
+    }
+
+    private void reportProgress() {
+        if (progress == null) return;
+        progress.nodesExpanded = nodesExpanded;
+        progress.peakFrontier = peakFrontier;
+    }
+
+    private void push(long key, long index) {
+        int b = (int) (key % bucketCount);
+        if (buckets[b] == null) buckets[b] = new long[64];
+        else if (bucketSize[b] == buckets[b].length) buckets[b] = Arrays.copyOf(buckets[b], bucketSize[b] * 2);
+        buckets[b][bucketSize[b]++] = index;
+        pending++;
+        queueOps++;
+        peakFrontier = Math.max(peakFrontier, pending);
+    }
+
+    private long[] tracePath() {
+        long start = store.startIndex();
+        int length = 1;
+        for (long u = store.endIndex(); u != start; u = parentOf(u)) length++;
+        long[] path = new long[length];
+        long u = store.endIndex();
+        for (int i = length - 1; i >= 0; i--) { path[i] = u; if (u != start) u = parentOf(u); }
+        return path;
+    }
+
+    private long parentOf(long index) {
+        return store.neighbor(index, (scratch.mark(index) & 7) - 1);
+    }
+}
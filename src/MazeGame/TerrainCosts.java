@@ -0,0 +1,41 @@
+package MazeGame;
+
+import java.util.Arrays;
+
+/**
+ * Tabel biaya per jenis terrain (kode terrain sama dengan bit 4-5 di MazeFile). Solver hanya membaca tabel ini,
+ * jadi menambah jenis terrain atau mengganti biayanya cukup di sini, tanpa menyentuh solvernya.
+ */
+public class TerrainCosts {
+    public static final int TYPES = 4;
+    public static final TerrainCosts DEFAULT = new TerrainCosts(MazeGrid.COST_GRASS, MazeGrid.COST_MUD, MazeGrid.COST_WATER);
+    public static final TerrainCosts UNIFORM = new TerrainCosts(1, 1, 1);
+
+    private final int[] table = new int[TYPES];
+    private final int minCost, maxCost;
+
+    /** Biaya untuk kode 0, 1, 2, ...; kode yang tidak disebut ikut biaya terakhir. */
+    public TerrainCosts(int... costs) {
+        if (costs.length == 0 || costs.length > TYPES) throw new IllegalArgumentException("Jumlah terrain harus 1-" + TYPES);
+        for (int code = 0; code < TYPES; code++) {
+            int cost = costs[Math.min(code, costs.length - 1)];
+            if (cost < 1) throw new IllegalArgumentException("Biaya terrain minimal 1: " + cost);
+            table[code] = cost;
+        }
+        minCost = Arrays.stream(costs).min().getAsInt();
+        maxCost = Arrays.stream(costs).max().getAsInt();
+    }
+
+    public int cost(int terrainCode) { return table[terrainCode]; }
+    public int ofBits(int cellBits) { return table[(cellBits >> 4) & 3]; }
+    public int minCost() { return minCost; }
+    public int maxCost() { return maxCost; }
+
+    /** Biaya masuk ke setiap sel, dihitung sekali per pencarian supaya loop utama cukup membaca array. */
+    public int[] cellCosts(MazeStore maze) {
+        int n = (int) maze.cellCount();
+        int[] costs = new int[n];
+        for (int i = 0; i < n; i++) costs[i] = ofBits(maze.cellBits(i));
+        return costs;
+    }
+}
@@ -0,0 +1,309 @@
+package MazeGame.bench;
+
+import MazeGame.*;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Benchmark generator dan solver MazeGame. Hasilnya JSON dengan bentuk yang sama seperti output JMH
+ * (-rf json), jadi bisa dibandingkan antar versi dengan alat yang sama (misalnya JMH Visualizer).
+ * Harness-nya ditulis sendiri karena proyek ini belum punya build tool untuk menarik JMH; pola ukurnya
+ * meniru JMH: warmup, beberapa iterasi berbasis waktu, hasil dikonsumsi blackhole, dan alokasi per
+ * operasi diambil dari ThreadMXBean (setara gc.alloc.rate.norm di profiler GC JMH).
+ *
+ * Dengan --external, solver out-of-core (ExternalSolver, jarak dan frontier di file sementara) ikut diukur
+ * di maze yang sama supaya overhead disk-nya bisa dibandingkan dengan StoreSolver.
+ *
+ * Contoh: java MazeGame.bench.MazeBenchmark --sizes 20,256 --methods BFS,ASTAR --out hasil.json
+ */
+public class MazeBenchmark {
+    /** Sampai ukuran ini maze dibuat sebagai MazeGrid (objek per sel); di atasnya hanya benchmark solver. */
+    static final int GRID_LIMIT = 1024;
+
+    /** Porsi rumput dan lumpur; sisanya air. */
+    enum Terrain {
+        MIXED(0.5, 0.3), GRASS(1.0, 0.0), SWAMP(0.2, 0.4);
+
+        final double grass, mud;
+        Terrain(double grass, double mud) { this.grass = grass; this.mud = mud; }
+    }
+
+    static class Options {
+        int[] sizes = {20, 64, 256, 1024, 4096};
+        List<SearchMethod> methods = Arrays.asList(SearchMethod.values());
+        List<Terrain> terrains = Arrays.asList(Terrain.values());
+        double[] loops = {0.0, 0.2, 0.5};
+        int warmupIterations = 2, iterations = 5;
+        long iterationMillis = 500;
+        boolean generation = true, external = false;
+        String out = null;
+        long seed = 42;
+    }
+
+    static class Result {
+        final String benchmark;
+        final Map<String, String> params;
+        final double[] nanosPerOp;
+        final double allocBytesPerOp;
+        final long gcCount, gcMillis, ops;
+
+        Result(String benchmark, Map<String, String> params, double[] nanosPerOp, double allocBytesPerOp, long gcCount, long gcMillis, long ops) {
+            this.benchmark = benchmark; this.params = params; this.nanosPerOp = nanosPerOp;
+            this.allocBytesPerOp = allocBytesPerOp; this.gcCount = gcCount; this.gcMillis = gcMillis; this.ops = ops;
+        }
+    }
+
+    private static volatile long blackhole;
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws IOException {
+        Options options = parse(args);
+        List<Result> results = new ArrayList<>();
+        for (int size : options.sizes) {
+            if (options.generation && size <= GRID_LIMIT) results.add(benchGeneration(size, options));
+            for (Terrain terrain : options.terrains) {
+                for (double loops : options.loops) {
+                    try (OffHeapMaze maze = buildMaze(size, terrain, loops, options.seed)) {
+                        SearchScratch scratch = maze.newScratch();
+                        for (SearchMethod method : options.methods) results.add(benchSolve(maze, scratch, method, terrain, loops, options));
+                        if (options.external) {
+                            for (SearchMethod method : options.methods) {
+                                if (method != SearchMethod.DFS) results.add(benchExternal(maze, method, terrain, loops, options));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        String json = toJson(results);
+        if (options.out == null) System.out.println(json);
+        else {
+            Files.write(Paths.get(options.out), json.getBytes("UTF-8"));
+            System.err.println("Hasil ditulis ke " + options.out);
+        }
+    }
+
+    private static Result benchGeneration(int size, Options options) {
+        long[] seed = {options.seed};
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("size", String.valueOf(size));
+        return measure("MazeGame.MazeGenerator.generate", params, options, () -> {
+            MazeGrid grid = MazeGenerator.generate(size, size, seed[0]++);
+            return grid.endNode.weight + grid.components.componentCount();
+        });
+    }
+
+    private static Result benchSolve(OffHeapMaze maze, SearchScratch scratch, SearchMethod method, Terrain terrain, double loops, Options options) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("size", String.valueOf(maze.rows()));
+        params.put("method", method.name());
+        params.put("terrain", terrain.name());
+        params.put("loops", String.valueOf(loops));
+        SearchConfig config = SearchConfig.of(method);
+        return measure("MazeGame.StoreSolver.solve", params, options, () -> {
+            StoreSolver.Result result = StoreSolver.solve(maze, config, scratch);
+            return result.cost + result.nodesExpanded;
+        });
+    }
+
+    private static Result benchExternal(OffHeapMaze maze, SearchMethod method, Terrain terrain, double loops, Options options) throws IOException {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("size", String.valueOf(maze.rows()));
+        params.put("method", method.name());
+        params.put("terrain", terrain.name());
+        params.put("loops", String.valueOf(loops));
+        Path workDir = Files.createTempDirectory("maze-external");
+        try {
+            return measure("MazeGame.ExternalSolver.solve", params, options, () -> {
+                try {
+                    ExternalSolver.Result result = ExternalSolver.solve(maze, method, workDir);
+                    return result.cost + result.nodesExpanded;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } finally {
+            Files.deleteIfExists(workDir);
+        }
+    }
+
+    private static Result measure(String name, Map<String, String> params, Options options, LongSupplier op) {
+        System.err.println("# " + name + " " + params);
+        for (int i = 0; i < options.warmupIterations; i++) runIteration(op, options.iterationMillis);
+
+        long thread = Thread.currentThread().getId();
+        long allocBefore = THREADS.getThreadAllocatedBytes(thread);
+        long[] gcBefore = gcTotals();
+        double[] nanosPerOp = new double[options.iterations];
+        long ops = 0;
+        for (int i = 0; i < options.iterations; i++) {
+            long[] iteration = runIteration(op, options.iterationMillis);
+            ops += iteration[0];
+            nanosPerOp[i] = iteration[1] / (double) iteration[0];
+            System.err.printf("  iterasi %d: %.3f ms/op%n", i + 1, nanosPerOp[i] / 1e6);
+        }
+        long allocated = THREADS.getThreadAllocatedBytes(thread) - allocBefore;
+        long[] gcAfter = gcTotals();
+        return new Result(name, params, nanosPerOp, allocated / (double) ops, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], ops);
+    }
+
+    // Jalankan op sampai waktu iterasi habis (minimal sekali); mengembalikan {jumlah op, total nanodetik}
+    private static long[] runIteration(LongSupplier op, long millis) {
+        long budget = millis * 1_000_000L, ops = 0, sink = 0;
+        long start = System.nanoTime(), elapsed;
+        do {
+            sink += op.getAsLong();
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < budget);
+        blackhole = sink;
+        return new long[]{ops, elapsed};
+    }
+
+    private static long[] gcTotals() {
+        long count = 0, millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[]{count, millis};
+    }
+
+    /**
+     * Maze sempurna dengan DFS acak (iteratif) langsung di memori native, lalu dinding dibuka acak
+     * sebanyak loops * jumlah sel dan terrain diisi sesuai distribusi. 4096x4096 tidak muat sebagai MazeGrid.
+     */
+    static OffHeapMaze buildMaze(int size, Terrain terrain, double loops, long seed) {
+        Random rng = new Random(seed);
+        OffHeapMaze maze = new OffHeapMaze(size, size);
+        int n = size * size;
+        BitSet visited = new BitSet(n);
+        int[] stack = new int[n];
+        int[] open = new int[4];
+        int top = 0;
+        stack[top++] = 0;
+        visited.set(0);
+        while (top > 0) {
+            int u = stack[top - 1], count = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                long v = maze.neighbor(u, dir);
+                if (v >= 0 && !visited.get((int) v)) open[count++] = dir;
+            }
+            if (count == 0) { top--; continue; }
+            int dir = open[rng.nextInt(count)];
+            int v = (int) maze.neighbor(u, dir);
+            maze.removeWall(u, dir);
+            visited.set(v);
+            stack[top++] = v;
+        }
+        long extra = (long) (loops * n);
+        for (long i = 0; i < extra; i++) maze.removeWall(rng.nextInt(n), rng.nextInt(4));
+        for (int i = 0; i < n; i++) {
+            double chance = rng.nextDouble();
+            int code = chance < terrain.grass ? MazeFile.TERRAIN_GRASS : chance < terrain.grass + terrain.mud ? MazeFile.TERRAIN_MUD : MazeFile.TERRAIN_WATER;
+            maze.setCellBits(i, (maze.cellBits(i) & 0x0F) | (code << 4));
+        }
+        maze.setCellBits(maze.startIndex(), maze.cellBits(maze.startIndex()) & 0x0F);
+        maze.setCellBits(maze.endIndex(), maze.cellBits(maze.endIndex()) & 0x0F);
+        return maze;
+    }
+
+    // Bentuk mengikuti JSON JMH: primaryMetric avgt (ms/op), secondaryMetrics untuk throughput, alokasi dan GC
+    static String toJson(List<Result> results) {
+        StringBuilder sb = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result r = results.get(i);
+            double[] ms = new double[r.nanosPerOp.length];
+            for (int k = 0; k < ms.length; k++) ms[k] = r.nanosPerOp[k] / 1e6;
+            double mean = Arrays.stream(ms).average().orElse(0);
+            double thrpt = mean == 0 ? 0 : 1000.0 / mean;
+            sb.append("  {\n");
+            sb.append("    \"jmhVersion\" : \"harness\",\n");
+            sb.append("    \"benchmark\" : ").append(quote(r.benchmark)).append(",\n");
+            sb.append("    \"mode\" : \"avgt\",\n");
+            sb.append("    \"threads\" : 1,\n");
+            sb.append("    \"jvm\" : ").append(quote(System.getProperty("java.home"))).append(",\n");
+            sb.append("    \"jdkVersion\" : ").append(quote(System.getProperty("java.version"))).append(",\n");
+            sb.append("    \"measurementIterations\" : ").append(ms.length).append(",\n");
+            sb.append("    \"params\" : {");
+            int p = 0;
+            for (Map.Entry<String, String> e : r.params.entrySet()) {
+                sb.append(p++ == 0 ? " " : ", ").append(quote(e.getKey())).append(" : ").append(quote(e.getValue()));
+            }
+            sb.append(" },\n");
+            sb.append("    \"primaryMetric\" : { \"score\" : ").append(num(mean)).append(", \"scoreError\" : ").append(num(error(ms)))
+                    .append(", \"scoreUnit\" : \"ms/op\", \"rawData\" : [ [ ");
+            for (int k = 0; k < ms.length; k++) sb.append(k == 0 ? "" : ", ").append(num(ms[k]));
+            sb.append(" ] ] },\n");
+            sb.append("    \"secondaryMetrics\" : {\n");
+            sb.append("      \"thrpt\" : { \"score\" : ").append(num(thrpt)).append(", \"scoreUnit\" : \"ops/s\" },\n");
+            sb.append("      \"gc.alloc.rate.norm\" : { \"score\" : ").append(num(r.allocBytesPerOp)).append(", \"scoreUnit\" : \"B/op\" },\n");
+            sb.append("      \"gc.alloc.rate\" : { \"score\" : ").append(num(r.allocBytesPerOp * thrpt / (1 << 20))).append(", \"scoreUnit\" : \"MB/sec\" },\n");
+            sb.append("      \"gc.count\" : { \"score\" : ").append(r.gcCount).append(", \"scoreUnit\" : \"counts\" },\n");
+            sb.append("      \"gc.time\" : { \"score\" : ").append(r.gcMillis).append(", \"scoreUnit\" : \"ms\" },\n");
+            sb.append("      \"ops\" : { \"score\" : ").append(r.ops).append(", \"scoreUnit\" : \"ops\" }\n");
+            sb.append("    }\n");
+            sb.append(i == results.size() - 1 ? "  }\n" : "  },\n");
+        }
+        return sb.append("]\n").toString();
+    }
+
+    // Setengah lebar selang kepercayaan 99.9% dengan pendekatan normal (JMH memakai distribusi t)
+    private static double error(double[] values) {
+        if (values.length < 2) return Double.NaN;
+        double mean = Arrays.stream(values).average().orElse(0), sq = 0;
+        for (double v : values) sq += (v - mean) * (v - mean);
+        return 3.29 * Math.sqrt(sq / (values.length - 1)) / Math.sqrt(values.length);
+    }
+
+    private static String num(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? "\"NaN\"" : String.format(Locale.ROOT, "%.6f", value);
+    }
+
+    private static String quote(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    static Options parse(String[] args) {
+        Options o = new Options();
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--sizes": o.sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray(); i++; break;
+                case "--methods": o.methods = new ArrayList<>(); for (String m : value.split(",")) o.methods.add(SearchMethod.valueOf(m.trim().toUpperCase())); i++; break;
+                case "--terrains": o.terrains = new ArrayList<>(); for (String t : value.split(",")) o.terrains.add(Terrain.valueOf(t.trim().toUpperCase())); i++; break;
+                case "--loops": o.loops = Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray(); i++; break;
+                case "--warmup": o.warmupIterations = Integer.parseInt(value); i++; break;
+                case "--iterations": o.iterations = Integer.parseInt(value); i++; break;
+                case "--time": o.iterationMillis = Long.parseLong(value); i++; break;
+                case "--seed": o.seed = Long.parseLong(value); i++; break;
+                case "--out": o.out = value; i++; break;
+                case "--no-generation": o.generation = false; break;
+                case "--external": o.external = true; break;
+                case "--quick":
+                    o.sizes = new int[]{20, 256};
+                    o.loops = new double[]{0.2};
+                    o.terrains = Collections.singletonList(Terrain.MIXED);
+                    o.warmupIterations = 1; o.iterations = 3; o.iterationMillis = 200;
+                    break;
+                default: usage(System.err); System.exit(1);
+            }
+        }
+        return o;
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("Pakai: MazeBenchmark [--sizes 20,64,...] [--methods BFS,DFS,DIJKSTRA,ASTAR] [--terrains MIXED,GRASS,SWAMP]");
+        out.println("                     [--loops 0,0.2,0.5] [--warmup N] [--iterations N] [--time ms] [--seed N]");
+        out.println("                     [--no-generation] [--external] [--quick] [--out hasil.json]");
+    }
+}
@@ -3,99 +3,286 @@ package SnakeandLadderGame;
 import java.util.*;
 
 public class GameLogic {
-    public static final int TOTAL_NODES = 25;
+    public static final int DEFAULT_NODES = 25;
+    public static final int NO_CONNECTION = -1;
+    // Percobaan panjang per titik awal; kalau semuanya gagal titik itu dilewati, jadi generator tetap linear
+    private static final int PLACE_ATTEMPTS = 4;
+    // Banyak apel emas per node papan (25 node -> 8 apel, sama seperti dulu)
+    private static final double APPLE_DENSITY = 0.32;
 
-    public List<List<Integer>> adj = new ArrayList<>();
-    public Map<Integer, Integer> randomConnections = new HashMap<>();
-    public Map<Integer, Integer> nodeScores = new HashMap<>();
+    public enum LengthDistribution {
+        UNIFORM, GEOMETRIC;
+
+        /** Panjang tangga/ular dalam [min, max]; GEOMETRIC lebih sering pendek (rata-rata sekitar seperempat rentang). */
+        int sample(Random rand, int min, int max) {
+            if (this == UNIFORM || max == min) return min + rand.nextInt(max - min + 1);
+            double p = 4.0 / (max - min + 4);
+            int extra = (int) (Math.log(1 - rand.nextDouble()) / Math.log(1 - p));
+            return Math.min(max, min + extra);
+        }
+    }
+
+    /** Parameter generator papan: kepadatan = bagian node (selain start dan finish) yang jadi kaki tangga / kepala ular. */
+    public static class BoardSpec {
+        public double ladderDensity = 0.2;
+        public double snakeDensity = 0.12;
+        public int minLength = 3;
+        public int maxLength = 10;
+        public LengthDistribution lengths = LengthDistribution.UNIFORM;
+    }
+
+    // Ukuran papan ditentukan saat konstruksi (game memakai 25, simulasi bisa jutaan node)
+    public final int totalNodes;
+
+    // Adjacency format CSR: tetangga node u = adjTargets[adjOffsets[u] .. adjOffsets[u+1]-1]
+    public int[] adjOffsets;
+    public int[] adjTargets;
+    // connectionTo[u] = ujung tangga (naik) atau ekor ular (turun) dari u, atau NO_CONNECTION; nodeScore[u] = nilai apel emas (0 = tidak ada)
+    public final int[] connectionTo;
+    public final int[] nodeScore;
+    public int connectionCount = 0, ladderCount = 0, snakeCount = 0;
+    // Label node 1..totalNodes yang prima, dibangun sekali per ukuran papan (dipakai aturan Dijkstra dan gambar node)
+    public final PrimeIndex primes;
+
+    // Naik setiap kali adjacency dibangun ulang; tabel next-hop dengan versi lain dianggap basi
+    private int boardVersion = 0;
+    // Naik setiap kali apel berubah (diambil atau diacak ulang); volatile karena rencana dibuat di thread lain
+    private volatile int scoreVersion = 0;
+    private PathOracle oracle;
+
+    // Array kerja BFS dipakai ulang antar panggilan; visitStamp menggantikan pengosongan array tiap pencarian
+    private final int[] parent, visitStamp, queue;
+    private int stamp = 0;
 
     private Random rand = new Random();
 
     public GameLogic() {
+        this(DEFAULT_NODES);
+    }
+
+    public GameLogic(int totalNodes, long seed) {
+        this(totalNodes);
+        rand = new Random(seed);
+    }
+
+    public GameLogic(int totalNodes) {
+        if (totalNodes < 2) throw new IllegalArgumentException("Board needs at least 2 nodes: " + totalNodes);
+        this.totalNodes = totalNodes;
+        connectionTo = new int[totalNodes];
+        nodeScore = new int[totalNodes];
+        parent = new int[totalNodes];
+        visitStamp = new int[totalNodes];
+        queue = new int[totalNodes];
+        adjOffsets = new int[totalNodes + 1];
+        primes = PrimeIndex.upTo(totalNodes);
         setupGraph();
     }
 
     public void setupGraph() {
-        adj.clear();
-        randomConnections.clear();
+        Arrays.fill(connectionTo, NO_CONNECTION);
+        connectionCount = ladderCount = snakeCount = 0;
+        buildAdjacency();
+    }
 
-        for (int i = 0; i < TOTAL_NODES; i++) {
-            adj.add(new ArrayList<>());
-            if (i < TOTAL_NODES - 1) adj.get(i).add(i + 1);
+    // Sisi rantai i -> i+1 ditambah tangga, ditulis langsung ke CSR dalam satu lintasan. Ular sengaja tidak
+    // ikut: jalur terpendek tidak boleh naik tangga lalu turun lewat ular; ular hanya berlaku di akhir langkah (planMove)
+    private void buildAdjacency() {
+        int edges = totalNodes - 1 + ladderCount;
+        if (adjTargets == null || adjTargets.length != edges) adjTargets = new int[edges];
+        int e = 0;
+        for (int u = 0; u < totalNodes; u++) {
+            adjOffsets[u] = e;
+            if (u < totalNodes - 1) adjTargets[e++] = u + 1;
+            if (connectionTo[u] > u) adjTargets[e++] = connectionTo[u];
         }
+        adjOffsets[totalNodes] = e;
+        boardVersion++;
     }
 
     public void generateRandomConnections() {
-        setupGraph();
-        List<Integer> primes = new ArrayList<>();
+        generateConnections(new BoardSpec());
+    }
 
-        for (int i = 2; i < TOTAL_NODES - 5; i++) {
-            if (isPrime(i)) primes.add(i - 1);
+    /**
+     * Pasang tangga dan ular sekaligus dalam O(n). Titik awal diambil tanpa pengembalian (Fisher-Yates
+     * parsial atas node 1..n-2), tiap titik awal dicoba paling banyak PLACE_ATTEMPTS panjang, lalu lanjut.
+     * Setiap node paling banyak jadi satu ujung koneksi, jadi tidak ada koneksi yang bersambung ke koneksi
+     * lain dan tidak mungkin ada siklus tangga/ular.
+     */
+    public void generateConnections(BoardSpec spec) {
+        setupGraph();
+        int inner = totalNodes - 2;
+        if (inner < 1) return;
+        int laddersLeft = (int) Math.round(spec.ladderDensity * inner);
+        int snakesLeft = (int) Math.round(spec.snakeDensity * inner);
+        // Tiap koneksi memakai dua node, jadi paling banyak separuh papan
+        int cap = inner / 2;
+        if (laddersLeft + snakesLeft > cap) {
+            laddersLeft = (int) ((long) laddersLeft * cap / (laddersLeft + snakesLeft));
+            snakesLeft = cap - laddersLeft;
         }
 
-        int count = 0;
-        while (count < 5 && !primes.isEmpty()) {
-            int start = primes.get(rand.nextInt(primes.size()));
-            int jump = rand.nextInt(8) + 3;
-            int end = start + jump;
+        int[] order = new int[inner];
+        for (int i = 0; i < inner; i++) order[i] = i + 1;
+        boolean[] used = new boolean[totalNodes];
+
+        for (int i = 0; i < inner && laddersLeft + snakesLeft > 0; i++) {
+            int j = i + rand.nextInt(inner - i);
+            int start = order[j]; order[j] = order[i]; order[i] = start;
+            if (used[start]) continue;
 
-            if (end < TOTAL_NODES && !randomConnections.containsKey(start)) {
-                adj.get(start).add(end);
-                randomConnections.put(start, end);
-                count++;
+            boolean ladderFirst = snakesLeft == 0 || (laddersLeft > 0 && rand.nextInt(laddersLeft + snakesLeft) < laddersLeft);
+            // Kalau jenis pertama tidak muat (misalnya tangga di dekat finish), coba jenis lainnya
+            boolean otherLeft = ladderFirst ? snakesLeft > 0 : laddersLeft > 0;
+            if (placeConnection(spec, used, start, ladderFirst)) {
+                if (ladderFirst) laddersLeft--; else snakesLeft--;
+            } else if (otherLeft && placeConnection(spec, used, start, !ladderFirst)) {
+                if (ladderFirst) snakesLeft--; else laddersLeft--;
             }
         }
+        buildAdjacency();
+    }
+
+    // Tangga naik ke (start, n-1], ular turun ke [0, start); ujungnya tidak boleh sudah dipakai koneksi lain
+    private boolean placeConnection(BoardSpec spec, boolean[] used, int start, boolean ladder) {
+        for (int attempt = 0; attempt < PLACE_ATTEMPTS; attempt++) {
+            int length = spec.lengths.sample(rand, spec.minLength, spec.maxLength);
+            int end = ladder ? start + length : start - length;
+            if (end < 0 || end >= totalNodes || used[end]) continue;
+            connectionTo[start] = end;
+            used[start] = used[end] = true;
+            connectionCount++;
+            if (ladder) ladderCount++; else snakeCount++;
+            return true;
+        }
+        return false;
     }
 
+    public boolean isLadder(int node) { return connectionTo[node] > node; }
+
+    public boolean isSnake(int node) { return connectionTo[node] != NO_CONNECTION && connectionTo[node] < node; }
+
     public void generateRandomScores() {
-        nodeScores.clear();
-        for (int i = 0; i < 8; i++) {
-            int idx = rand.nextInt(TOTAL_NODES - 2) + 1;
+        Arrays.fill(nodeScore, 0);
+        int inner = totalNodes - 2; // apel tidak pernah di start atau finish
+        if (inner < 1) return;
+        int apples = (int) Math.min(inner, Math.round(APPLE_DENSITY * totalNodes));
+        for (int i = 0; i < apples; i++) {
+            int idx = rand.nextInt(inner) + 1;
             int scoreVal = (rand.nextInt(5) + 1) * 10;
-            nodeScores.put(idx, scoreVal);
+            nodeScore[idx] = scoreVal;
         }
+        scoreVersion++;
     }
 
-    public List<Integer> getShortestPath(int start, int end) {
-        if (start == end) return new ArrayList<>();
+    public boolean hasConnection(int node) { return connectionTo[node] != NO_CONNECTION; }
+
+    public boolean hasScore(int node) { return nodeScore[node] > 0; }
 
-        int[] dist = new int[TOTAL_NODES];
-        int[] parent = new int[TOTAL_NODES];
-        Arrays.fill(dist, Integer.MAX_VALUE);
-        Arrays.fill(parent, -1);
-        dist[start] = 0;
+    /** Ambil apel emas di node (nilainya, 0 kalau tidak ada) dan hapus dari papan. */
+    public int takeScore(int node) {
+        int value = nodeScore[node];
+        if (value == 0) return 0;
+        nodeScore[node] = 0;
+        scoreVersion++;
+        return value;
+    }
 
-        PriorityQueue<int[]> pq = new PriorityQueue<>(Comparator.comparingInt(a -> a[1]));
-        pq.add(new int[]{start, 0});
+    /** Tabel next-hop untuk papan sekarang, dibangun ulang kalau koneksi sudah berubah; null kalau papan terlalu besar. */
+    public synchronized PathOracle pathOracle() {
+        if (totalNodes > PathOracle.MAX_NODES) return null;
+        if (oracle == null || oracle.boardVersion != boardVersion) oracle = PathOracle.build(totalNodes, adjOffsets, adjTargets, boardVersion);
+        return oracle;
+    }
 
-        while (!pq.isEmpty()) {
-            int u = pq.poll()[0];
-            if (u == end) break;
+    /**
+     * Jalur terpendek dari start ke end (start tidak ikut, end ikut); kosong kalau end tidak terjangkau.
+     * Papan kecil dijawab dari tabel next-hop; papan besar memakai BFS (semua sisi berbobot 1).
+     */
+    public synchronized int[] getShortestPath(int start, int end) {
+        if (start == end) return new int[0];
+        PathOracle table = pathOracle();
+        if (table != null) return table.path(start, end);
+        return bfsPath(start, end);
+    }
 
-            for (int v : adj.get(u)) {
-                if (dist[u] + 1 < dist[v]) {
-                    dist[v] = dist[u] + 1;
-                    parent[v] = u;
-                    pq.add(new int[]{v, dist[v]});
-                }
+    private int[] bfsPath(int start, int end) {
+        if (++stamp == 0) { Arrays.fill(visitStamp, 0); stamp = 1; }
+
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        visitStamp[start] = stamp;
+        parent[start] = -1;
+        boolean found = false;
+
+        while (head < tail && !found) {
+            int u = queue[head++];
+            for (int e = adjOffsets[u]; e < adjOffsets[u + 1]; e++) {
+                int v = adjTargets[e];
+                if (visitStamp[v] == stamp) continue;
+                visitStamp[v] = stamp;
+                parent[v] = u;
+                if (v == end) { found = true; break; }
+                queue[tail++] = v;
             }
         }
+        if (!found) return new int[0];
 
-        List<Integer> path = new ArrayList<>();
-        int curr = end;
-        while (curr != -1 && curr != start) {
-            path.add(curr);
-            curr = parent[curr];
-        }
-        Collections.reverse(path);
+        int length = 0;
+        for (int curr = end; curr != start; curr = parent[curr]) length++;
+        int[] path = new int[length];
+        for (int curr = end, i = length - 1; curr != start; curr = parent[curr]) path[i--] = curr;
         return path;
     }
 
+    /**
+     * Hitung hasil lemparan dice (1-6) dari node from tanpa mengubah papan: maju di node prima memakai
+     * jalur terpendek, selain itu melangkah satu-satu; tangga hanya berlaku saat maju, ular selalu.
+     */
+    public MovePlan planMove(int from, int dice, boolean forward) {
+        int scores = scoreVersion; // dibaca sebelum nodeScore: apel yang diambil selama perencanaan membuat rencana basi
+        int target = Math.max(0, Math.min(totalNodes - 1, forward ? from + dice : from - dice));
+        boolean shortest = forward && isPrime(from + 1);
+        int[] path;
+        if (shortest) {
+            path = getShortestPath(from, target);
+        } else {
+            // Langkah biasa: node berurutan dari posisi sekarang sampai target (maju atau mundur)
+            int step = forward ? 1 : -1;
+            path = new int[Math.max(0, (target - from) * step)];
+            for (int i = 0; i < path.length; i++) path[i] = from + step * (i + 1);
+        }
+
+        boolean[] apple = new boolean[path.length];
+        int coins = 0;
+        for (int i = 0; i < path.length; i++) {
+            // Jalur tidak pernah melewati node yang sama dua kali, jadi tiap apel terhitung sekali
+            if (nodeScore[path[i]] > 0) { apple[i] = true; coins += nodeScore[path[i]]; }
+        }
+
+        int end = path.length > 0 ? path[path.length - 1] : from;
+        int jumpTo = (forward && isLadder(end)) || isSnake(end) ? connectionTo[end] : NO_CONNECTION;
+        return new MovePlan(this, from, dice, forward, shortest, path, apple, coins, jumpTo, boardVersion, scores);
+    }
+
+    /** Rencana untuk kedua belas kemungkinan (dice 1-6, maju/mundur), diurutkan menurut MovePlan.slot. */
+    public MovePlan[] planAllMoves(int from) {
+        MovePlan[] plans = new MovePlan[12];
+        for (int dice = 1; dice <= 6; dice++) {
+            plans[MovePlan.slot(dice, true)] = planMove(from, dice, true);
+            plans[MovePlan.slot(dice, false)] = planMove(from, dice, false);
+        }
+        return plans;
+    }
+
+    /** Rencana masih berlaku kalau dibuat papan ini, dari posisi yang sama, pada versi papan dan apel yang sama. */
+    public boolean isCurrent(MovePlan plan, int from) {
+        return plan != null && plan.board == this && plan.from == from && plan.boardVersion == boardVersion && plan.scoreVersion == scoreVersion;
+    }
+
+    /** Nomor node (1..totalNodes) cukup dicek di bitset; di luar itu index diperbesar dulu. */
     public boolean isPrime(int n) {
         if (n <= 1) return false;
-        for (int i = 2; i <= Math.sqrt(n); i++) {
-            if (n % i == 0) return false;
-        }
-        return true;
+        return (n <= primes.limit ? primes : PrimeIndex.upTo(n)).isPrime(n);
     }
-}
\ No newline at end of file
+}
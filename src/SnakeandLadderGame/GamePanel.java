@@ -3,19 +3,26 @@ package SnakeandLadderGame;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.util.List;
-import javax.imageio.ImageIO;
+import GameCommon.ActiveRenderer;
+import GameCommon.AssetManager;
+import GameCommon.EdtMonitor;
 
 public class GamePanel extends JPanel {
     private final int NODE_SIZE = 50;
     private final int PLAYER_SIZE = 50;
     private Point[] nodePositions;
-    private BufferedImage bgImage, nodeReguler, nodePrime, nodeFinish;
+    private final int APPLE_SIZE = 20;
+    private BufferedImage nodeReguler, nodePrime, nodeFinish;
     private BufferedImage imgGoldenApple, imgChain, imgLadder;
     private BufferedImage[] playerSkins = new BufferedImage[12];
+    private final AssetManager.Backdrop backdrop = new AssetManager.Backdrop(Main.ASSET_PATH + "mcbg1.jpg");
 
     private GameLogic logic;
     private List<Player> players;
@@ -23,6 +30,8 @@ public class GamePanel extends JPanel {
     private SoundManager soundManager;
 
     private JButton btnResetOverlay;
+    // Active rendering mode: the canvas covers the panel and redraws every frame; null = normal repaint()
+    private ActiveRenderer activeRenderer;
 
     public GamePanel(GameLogic logic, List<Player> players, Font font, SoundManager sm, ActionListener resetAction) {
         this.logic = logic;
@@ -34,7 +43,14 @@ public class GamePanel extends JPanel {
         loadAssets();
         setupResetButton(resetAction);
 
-        nodePositions = new Point[GameLogic.TOTAL_NODES];
+        nodePositions = new Point[logic.totalNodes];
+        EdtMonitor.watch(this);
+        // Null layout: keep the active canvas the same size as the panel
+        addComponentListener(new ComponentAdapter() {
+            @Override public void componentResized(ComponentEvent e) {
+                if (activeRenderer != null) activeRenderer.setBounds(0, 0, getWidth(), getHeight());
+            }
+        });
     }
 
     private void setupResetButton(ActionListener action) {
@@ -53,38 +69,19 @@ public class GamePanel extends JPanel {
         add(btnResetOverlay);
     }
 
+    // Node, apel dan skin diambil dari AssetManager sudah seukuran gambarnya di papan
     private void loadAssets() {
+        String basePath = Main.ASSET_PATH;
 
-        String basePath = "/SnakeandLadderGame/assets/";
-
-        bgImage = loadImage(basePath + "mcbg1.jpg");
-        nodeReguler = loadImage(basePath + "regulernode.png");
-        nodePrime = loadImage(basePath + "primenode.png");
-        nodeFinish = loadImage(basePath + "finishnode.png");
-        imgGoldenApple = loadImage(basePath + "gldapl.png");
-
-        BufferedImage rawChain = loadImage(basePath + "chain.png");
-        imgChain = rotateImageCW90(rawChain);
-
-        BufferedImage rawLadder = loadImage(basePath + "Ladder.png");
-        imgLadder = rotateImageCW90(rawLadder);
+        nodeReguler = AssetManager.scaled(basePath + "regulernode.png", NODE_SIZE, NODE_SIZE);
+        nodePrime = AssetManager.scaled(basePath + "primenode.png", NODE_SIZE, NODE_SIZE);
+        nodeFinish = AssetManager.scaled(basePath + "finishnode.png", NODE_SIZE, NODE_SIZE);
+        imgGoldenApple = AssetManager.scaled(basePath + "gldapl.png", APPLE_SIZE, APPLE_SIZE);
 
-        for (int i = 0; i < 6; i++) playerSkins[i] = loadImage(basePath + "gp" + (i + 1) + ".png");
-        for (int i = 0; i < 6; i++) playerSkins[i + 6] = loadImage(basePath + "bp" + (i + 1) + ".png");
-    }
+        imgChain = rotateImageCW90(AssetManager.image(basePath + "chain.png"));
+        imgLadder = rotateImageCW90(AssetManager.image(basePath + "Ladder.png"));
 
-    private BufferedImage loadImage(String path) {
-        try {
-            java.net.URL url = getClass().getResource(path);
-            if (url == null) {
-                System.out.println("Image missing: " + path);
-                return null;
-            }
-            return ImageIO.read(url);
-        } catch (IOException e) {
-            e.printStackTrace();
-            return null;
-        }
+        for (int i = 0; i < playerSkins.length; i++) playerSkins[i] = AssetManager.scaled(Main.skinPath(i), PLAYER_SIZE, PLAYER_SIZE);
     }
 
     private BufferedImage rotateImageCW90(BufferedImage img) {
@@ -98,15 +95,48 @@ public class GamePanel extends JPanel {
         return r;
     }
 
-    private void updateNodePositions() {
-        int w = getWidth();
-        int h = getHeight();
+    /** Switch the board to a game loop drawing into a BufferStrategy (with FPS readout), or back to repaint(). */
+    public void setActiveRendering(boolean enabled, int targetFps) {
+        if (activeRenderer != null) {
+            activeRenderer.stop();
+            remove(activeRenderer);
+            activeRenderer = null;
+        }
+        if (enabled) {
+            // Board state only changes through events on the EDT, so there is nothing to step in update()
+            activeRenderer = new ActiveRenderer(new ActiveRenderer.Scene() {
+                @Override public void update() { }
+                @Override public void render(Graphics2D g, int width, int height) {
+                    drawBoard(g, width, height);
+                    // The heavyweight canvas hides the RESET button, so paint it here and forward its clicks
+                    Graphics2D bg = (Graphics2D) g.create(btnResetOverlay.getX(), btnResetOverlay.getY(), btnResetOverlay.getWidth(), btnResetOverlay.getHeight());
+                    btnResetOverlay.paint(bg);
+                    bg.dispose();
+                }
+            }, targetFps, targetFps);
+            activeRenderer.setBounds(0, 0, getWidth(), getHeight());
+            activeRenderer.addMouseListener(new MouseAdapter() {
+                @Override public void mouseClicked(MouseEvent e) {
+                    if (btnResetOverlay.getBounds().contains(e.getPoint())) btnResetOverlay.doClick();
+                }
+            });
+            add(activeRenderer);
+            ActiveRenderer renderer = activeRenderer;
+            SwingUtilities.invokeLater(() -> { if (renderer.isDisplayable()) renderer.start(); });
+        }
+        repaint();
+    }
+
+    public boolean isActiveRendering() { return activeRenderer != null; }
+
+    private void updateNodePositions(int w, int h) {
         if (w == 0 || h == 0) return;
 
-        int cols = 5;
-        int rows = 5;
-        int stepX = 130;
-        int stepY = 100;
+        // Ular berkelok di grid hampir persegi (25 node = 5x5); jarak antar node mengecil kalau papan lebih besar
+        int cols = (int) Math.ceil(Math.sqrt(logic.totalNodes));
+        int rows = (logic.totalNodes + cols - 1) / cols;
+        int stepX = Math.min(130, (w - 100) / Math.max(1, cols - 1));
+        int stepY = Math.min(100, (h - 100) / Math.max(1, rows - 1));
 
         int totalMapWidth = (cols - 1) * stepX;
         int totalMapHeight = (rows - 1) * stepY;
@@ -118,9 +148,10 @@ public class GamePanel extends JPanel {
         int y = startY;
         boolean movingRight = true;
 
-        for (int i = 0; i < GameLogic.TOTAL_NODES; i++) {
-            nodePositions[i] = new Point(x, y);
-            if ((i + 1) % 5 == 0) {
+        for (int i = 0; i < logic.totalNodes; i++) {
+            if (nodePositions[i] == null) nodePositions[i] = new Point();
+            nodePositions[i].setLocation(x, y);
+            if ((i + 1) % cols == 0) {
                 y -= stepY;
                 movingRight = !movingRight;
             } else {
@@ -136,31 +167,39 @@ public class GamePanel extends JPanel {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (activeRenderer != null) return; // the canvas draws the board
+        drawBoard((Graphics2D) g, getWidth(), getHeight());
+    }
 
-        updateNodePositions();
+    // Shared by paintComponent and the active game loop; g may come from a BufferStrategy
+    private void drawBoard(Graphics2D g2, int w, int h) {
+        long paintStart = System.nanoTime();
+        updateNodePositions(w, h);
         if (nodePositions[0] == null) return;
 
-        Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        if (bgImage != null) g2.drawImage(bgImage, 0, 0, getWidth(), getHeight(), null);
-        else { g2.setColor(new Color(135, 206, 235)); g2.fillRect(0, 0, getWidth(), getHeight()); }
+        BufferedImage bgImage = backdrop.at(w, h);
+        if (bgImage != null) g2.drawImage(bgImage, 0, 0, null);
+        else { g2.setColor(new Color(135, 206, 235)); g2.fillRect(0, 0, w, h); }
 
-        for (int i = 0; i < GameLogic.TOTAL_NODES - 1; i++)
+        for (int i = 0; i < logic.totalNodes - 1; i++)
             drawTiledImage(g2, imgChain, nodePositions[i], nodePositions[i + 1], 30);
-        for (var e : logic.randomConnections.entrySet())
-            drawTiledImage(g2, imgLadder, nodePositions[e.getKey()], nodePositions[e.getValue()], 35);
+        for (int i = 0; i < logic.totalNodes; i++)
+            if (logic.isLadder(i)) drawTiledImage(g2, imgLadder, nodePositions[i], nodePositions[logic.connectionTo[i]], 35);
+            else if (logic.isSnake(i)) drawSnake(g2, nodePositions[i], nodePositions[logic.connectionTo[i]]);
 
-        for (int i = 0; i < GameLogic.TOTAL_NODES; i++) {
+        for (int i = 0; i < logic.totalNodes; i++) {
             Point p = nodePositions[i];
-            BufferedImage img = (i==GameLogic.TOTAL_NODES-1)?nodeFinish:(logic.isPrime(i+1)?nodePrime:nodeReguler);
-            if(img==null && logic.isPrime(i+1)) img = nodeReguler;
+            boolean prime = logic.isPrime(i+1);
+            BufferedImage img = (i==logic.totalNodes-1)?nodeFinish:(prime?nodePrime:nodeReguler);
+            if(img==null && prime) img = nodeReguler;
 
-            if (img != null) g2.drawImage(img, p.x-NODE_SIZE/2, p.y-NODE_SIZE/2, NODE_SIZE, NODE_SIZE, null);
+            if (img != null) g2.drawImage(img, p.x-NODE_SIZE/2, p.y-NODE_SIZE/2, null);
             else { g2.setColor(Color.GREEN); g2.fillRect(p.x-25, p.y-25, 50, 50); }
 
-            if (logic.nodeScores.containsKey(i)) {
-                if(imgGoldenApple!=null) g2.drawImage(imgGoldenApple, p.x-10, p.y-35, 20, 20, null);
+            if (logic.hasScore(i)) {
+                if(imgGoldenApple!=null) g2.drawImage(imgGoldenApple, p.x-APPLE_SIZE/2, p.y-35, null);
                 else { g2.setColor(Color.ORANGE); g2.fillOval(p.x-5, p.y-35, 10, 10); }
             }
             g2.setColor(Color.WHITE); g2.setFont(customFont!=null?customFont.deriveFont(14f):new Font("Arial",Font.BOLD,14));
@@ -171,10 +210,36 @@ public class GamePanel extends JPanel {
         for (int i = 0; i < players.size(); i++) {
             Player p = players.get(i); Point pt = nodePositions[p.position];
             int ox = (i%2)*15-8, oy = (i/2)*15-20;
-            if(playerSkins[p.skinIndex]!=null) g2.drawImage(playerSkins[p.skinIndex], pt.x+ox-25, pt.y+oy-25, 50, 50, null);
+            if(playerSkins[p.skinIndex]!=null) g2.drawImage(playerSkins[p.skinIndex], pt.x+ox-PLAYER_SIZE/2, pt.y+oy-PLAYER_SIZE/2, null);
             else { g2.setColor(p.color); g2.fillRect(pt.x+ox-10, pt.y+oy-10, 20, 20); }
             g2.setColor(Color.WHITE); g2.setFont(new Font("Arial",Font.BOLD,10)); g2.drawString(p.name, pt.x+ox-15, pt.y+oy-25);
         }
+        EdtMonitor.recordPaint(System.nanoTime() - paintStart);
+        EdtMonitor.drawOverlay(g2, w, h);
+    }
+
+    // Snake = wavy green line from head (p1) down to tail (p2), with a red head
+    private void drawSnake(Graphics2D g2, Point head, Point tail) {
+        double dx = tail.x - head.x, dy = tail.y - head.y, dist = Math.sqrt(dx*dx+dy*dy);
+        if (dist == 0) return;
+        double nx = -dy / dist, ny = dx / dist;
+        java.awt.geom.Path2D.Double body = new java.awt.geom.Path2D.Double();
+        int segments = Math.max(8, (int) (dist / 6));
+        for (int s = 0; s <= segments; s++) {
+            double t = (double) s / segments, wave = Math.sin(t * Math.PI * 4) * 10 * (1 - t * 0.5);
+            double x = head.x + dx * t + nx * wave, y = head.y + dy * t + ny * wave;
+            if (s == 0) body.moveTo(x, y); else body.lineTo(x, y);
+        }
+        Stroke old = g2.getStroke();
+        g2.setStroke(new BasicStroke(9, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2.setColor(new Color(20, 90, 20));
+        g2.draw(body);
+        g2.setStroke(new BasicStroke(5, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+        g2.setColor(new Color(90, 200, 60));
+        g2.draw(body);
+        g2.setStroke(old);
+        g2.setColor(new Color(200, 40, 40));
+        g2.fillOval(head.x - 8, head.y - 8, 16, 16);
     }
 
     private void drawTiledImage(Graphics2D g2, BufferedImage img, Point p1, Point p2, int width) {
@@ -1,12 +1,30 @@
 package SnakeandLadderGame;
 
-import javax.swing.SwingUtilities;
+import GameCommon.AssetManager;
+import GameCommon.AssetSplash;
+import GameCommon.EdtMonitor;
+
+import java.util.List;
 
 public class Main {
+    public static final String ASSET_PATH = "/SnakeandLadderGame/assets/";
+    static final List<String> ASSETS = AssetManager.list(ASSET_PATH, "Minecraft.ttf", "mcbg1.jpg", "regulernode.png", "primenode.png",
+            "finishnode.png", "gldapl.png", "chain.png", "Ladder.png", "gp1.png", "gp2.png", "gp3.png", "gp4.png", "gp5.png", "gp6.png",
+            "bp1.png", "bp2.png", "bp3.png", "bp4.png", "bp5.png", "bp6.png", "click.wav", "damage.wav", "level_up.wav", "step.wav", "win.wav");
+
+    // EDT blocked longer than this counts as a stall and its stack is logged (F3 toggles the p50/p99 overlay)
+    static final long STALL_MILLIS = 250;
+
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
+        EdtMonitor.install(STALL_MILLIS);
+        AssetSplash.show("Skyblock Graph", ASSETS, () -> {
             SnakeGraphGame game = new SnakeGraphGame();
             game.setVisible(true);
         });
     }
-}
\ No newline at end of file
+
+    /** Path skin ke-index (0-5 = gp1-gp6, 6-11 = bp1-bp6), sama dengan urutan Player.skinIndex. */
+    static String skinPath(int index) {
+        return ASSET_PATH + (index < 6 ? "gp" + (index + 1) : "bp" + (index - 5)) + ".png";
+    }
+}
@@ -1,6 +1,7 @@
 package SnakeandLadderGame;
 
-import javax.imageio.ImageIO;
+import GameCommon.AssetManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
@@ -8,9 +9,9 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 
 public class MainMenuPanel extends JPanel {
-    private BufferedImage bgImage;
     private JButton btnStart, btnSettings, btnExit;
     private Font minecraftFont;
+    private final AssetManager.Backdrop backdrop = new AssetManager.Backdrop(Main.ASSET_PATH + "mcbg1.jpg");
 
     public MainMenuPanel(ActionListener startAction, ActionListener settingsAction) {
         setLayout(new GridBagLayout());
@@ -59,27 +60,15 @@ public class MainMenuPanel extends JPanel {
     }
 
     private void loadAssets() {
-        try {
-            // Sama, path-nya sesuaikan dengan package
-            String basePath = "/SnakeandLadderGame/assets/";
-
-            java.net.URL bgUrl = getClass().getResource(basePath + "mcbg1.jpg");
-            if (bgUrl != null) bgImage = ImageIO.read(bgUrl);
-
-            java.net.URL fontUrl = getClass().getResource(basePath + "Minecraft.ttf");
-            if(fontUrl != null) {
-                // Font butuh InputStream kalau dari resource
-                minecraftFont = Font.createFont(Font.TRUETYPE_FONT, fontUrl.openStream());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        minecraftFont = AssetManager.font(Main.ASSET_PATH + "Minecraft.ttf");
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        if (bgImage != null) g.drawImage(bgImage, 0, 0, getWidth(), getHeight(), null);
+        // Background diskalakan sekali per ukuran panel (hanya ukuran terakhir yang disimpan), bukan setiap repaint
+        BufferedImage bgImage = backdrop.at(getWidth(), getHeight());
+        if (bgImage != null) g.drawImage(bgImage, 0, 0, null);
         else { g.setColor(new Color(50, 50, 50)); g.fillRect(0, 0, getWidth(), getHeight()); }
         g.setColor(new Color(0, 0, 0, 100)); g.fillRect(0, 0, getWidth(), getHeight());
     }
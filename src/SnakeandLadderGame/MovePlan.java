@@ -0,0 +1,42 @@
+package SnakeandLadderGame;
+
+/**
+ * Hasil satu lemparan yang sudah dihitung lengkap: langkah demi langkah, apel emas yang terambil di
+ * sepanjang jalan, dan tangga/ular di node terakhir. Dibuat oleh GameLogic.planMove; tidak mengubah papan.
+ */
+public final class MovePlan {
+    public final int from, dice;
+    public final boolean forward, usedShortestPath;
+    public final int[] path;
+    // apple[i] = langkah ke-i mendarat di node yang (saat rencana dibuat) berisi apel emas
+    public final boolean[] apple;
+    public final int coins;
+    // Node tujuan tangga/ular dari akhir path, atau GameLogic.NO_CONNECTION
+    public final int jumpTo;
+    public final int finalPosition;
+    // Papan dan versi papan/apel saat rencana dibuat, untuk mengenali rencana basi
+    final GameLogic board;
+    final int boardVersion, scoreVersion;
+
+    MovePlan(GameLogic board, int from, int dice, boolean forward, boolean usedShortestPath, int[] path, boolean[] apple, int coins, int jumpTo, int boardVersion, int scoreVersion) {
+        this.board = board;
+        this.from = from;
+        this.dice = dice;
+        this.forward = forward;
+        this.usedShortestPath = usedShortestPath;
+        this.path = path;
+        this.apple = apple;
+        this.coins = coins;
+        this.jumpTo = jumpTo;
+        this.finalPosition = jumpTo != GameLogic.NO_CONNECTION ? jumpTo : path.length > 0 ? path[path.length - 1] : from;
+        this.boardVersion = boardVersion;
+        this.scoreVersion = scoreVersion;
+    }
+
+    public boolean isLadder() { return jumpTo != GameLogic.NO_CONNECTION && jumpTo > (path.length > 0 ? path[path.length - 1] : from); }
+
+    public boolean isSnake() { return jumpTo != GameLogic.NO_CONNECTION && !isLadder(); }
+
+    /** Index ke plans dari GameLogic.planAllMoves: maju = 0..5, mundur = 6..11. */
+    public static int slot(int dice, boolean forward) { return (forward ? 0 : 6) + dice - 1; }
+}
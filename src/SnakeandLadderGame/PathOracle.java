@@ -0,0 +1,75 @@
+package SnakeandLadderGame;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Tabel next-hop semua pasangan untuk satu versi papan: next(from, to) = node pertama sesudah from pada
+ * salah satu jalur terpendek ke to (-1 kalau tidak terjangkau). Dibangun dengan BFS dari setiap node
+ * (paralel untuk papan besar); setelah itu query jalur cukup mengikuti next-hop, tanpa pencarian.
+ * Ukurannya n^2, jadi hanya dipakai sampai MAX_NODES; papan lebih besar memakai BFS biasa di GameLogic.
+ */
+public final class PathOracle {
+    public static final int MAX_NODES = 2048; // 2048^2 short = 8 MB
+    private static final int PARALLEL_FROM = 256;
+
+    public final int nodes;
+    final int boardVersion;
+    private final short[] next;
+
+    private PathOracle(int nodes, int boardVersion, short[] next) {
+        this.nodes = nodes;
+        this.boardVersion = boardVersion;
+        this.next = next;
+    }
+
+    static PathOracle build(int nodes, int[] offsets, int[] targets, int boardVersion) {
+        if (nodes > MAX_NODES) throw new IllegalArgumentException("Board too large for a next-hop table: " + nodes);
+        short[] next = new short[nodes * nodes];
+        ThreadLocal<int[]> queues = ThreadLocal.withInitial(() -> new int[nodes]);
+        IntStream sources = IntStream.range(0, nodes);
+        if (nodes >= PARALLEL_FROM) sources = sources.parallel();
+        sources.forEach(src -> bfs(src, nodes, offsets, targets, next, queues.get()));
+        return new PathOracle(nodes, boardVersion, next);
+    }
+
+    // Baris src diisi hop pertama: tetangga langsung src mendapat dirinya sendiri, node lain mewarisi hop induknya
+    private static void bfs(int src, int nodes, int[] offsets, int[] targets, short[] next, int[] queue) {
+        int row = src * nodes, head = 0, tail = 0;
+        Arrays.fill(next, row, row + nodes, (short) -1);
+        next[row + src] = (short) src;
+        queue[tail++] = src;
+        while (head < tail) {
+            int u = queue[head++];
+            short hop = next[row + u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (next[row + v] != -1) continue;
+                next[row + v] = u == src ? (short) v : hop;
+                queue[tail++] = v;
+            }
+        }
+    }
+
+    public int next(int from, int to) {
+        return from == to ? -1 : next[from * nodes + to];
+    }
+
+    /** Jumlah langkah jalur terpendek, atau -1 kalau tidak terjangkau. */
+    public int distance(int from, int to) {
+        int steps = 0;
+        for (int curr = from; curr != to; steps++) {
+            curr = next[curr * nodes + to];
+            if (curr < 0) return -1;
+        }
+        return steps;
+    }
+
+    /** Jalur from -> to (from tidak ikut) dengan mengikuti next-hop; kosong kalau tidak terjangkau. */
+    public int[] path(int from, int to) {
+        int length = distance(from, to);
+        int[] path = new int[Math.max(0, length)];
+        for (int i = 0, curr = from; i < path.length; i++) path[i] = curr = next[curr * nodes + to];
+        return path;
+    }
+}
@@ -0,0 +1,72 @@
+package SnakeandLadderGame;
+
+import java.util.Arrays;
+
+/**
+ * Bitset bilangan prima 0..limit, dibangun sekali dengan segmented sieve lalu dipakai ulang: isPrime(n)
+ * cukup satu lookup bit. Segmen SEGMENT angka (kelipatan 64) menjaga array coret-coretan tetap kecil dan
+ * muat di cache, jadi papan jutaan node tetap cepat dibangun.
+ */
+public final class PrimeIndex {
+    private static final int SEGMENT = 1 << 18;
+
+    private static PrimeIndex cached;
+
+    public final int limit;
+    private final long[] bits;
+    private final int count;
+
+    private PrimeIndex(int limit, long[] bits) {
+        this.limit = limit;
+        this.bits = bits;
+        int c = 0;
+        for (long word : bits) c += Long.bitCount(word);
+        this.count = c;
+    }
+
+    /** Index yang mencakup paling sedikit 0..limit; index yang sudah ada dan cukup besar dipakai lagi. */
+    public static synchronized PrimeIndex upTo(int limit) {
+        if (cached == null || cached.limit < limit) cached = build(Math.max(limit, 2));
+        return cached;
+    }
+
+    public boolean isPrime(int n) {
+        if (n < 0 || n > limit) throw new IllegalArgumentException("Outside prime index 0.." + limit + ": " + n);
+        return (bits[n >>> 6] & (1L << n)) != 0;
+    }
+
+    /** Banyaknya bilangan prima <= limit. */
+    public int count() { return count; }
+
+    private static PrimeIndex build(int limit) {
+        int root = (int) Math.sqrt(limit);
+        while ((long) (root + 1) * (root + 1) <= limit) root++;
+
+        // Prima dasar sampai akar limit dengan sieve biasa
+        boolean[] composite = new boolean[root + 1];
+        int[] base = new int[root + 1];
+        int baseCount = 0;
+        for (int i = 2; i <= root; i++) {
+            if (composite[i]) continue;
+            base[baseCount++] = i;
+            for (int j = i * i; j <= root; j += i) composite[j] = true;
+        }
+
+        long[] bits = new long[(limit >>> 6) + 1];
+        long[] crossed = new long[SEGMENT >>> 6];
+        for (long low = 0; low <= limit; low += SEGMENT) {
+            long high = Math.min(limit, low + SEGMENT - 1);
+            Arrays.fill(crossed, 0);
+            for (int k = 0; k < baseCount; k++) {
+                long p = base[k], first = Math.max(p * p, (low + p - 1) / p * p);
+                for (long m = first; m <= high; m += p) crossed[(int) (m - low) >>> 6] |= 1L << (m - low);
+            }
+            int firstWord = (int) (low >>> 6), words = (int) ((high - low) >>> 6) + 1;
+            for (int w = 0; w < words; w++) bits[firstWord + w] = ~crossed[w];
+        }
+        bits[0] &= ~3L; // 0 dan 1 bukan prima
+        int tail = (limit + 1) & 63;
+        if (tail != 0) bits[bits.length - 1] &= (1L << tail) - 1; // buang bit di atas limit
+        return new PrimeIndex(limit, bits);
+    }
+}
@@ -8,7 +8,8 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.*;
 import java.util.List;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
+import GameCommon.AssetManager;
 
 public class SnakeGraphGame extends JFrame {
 
@@ -28,6 +29,8 @@ public class SnakeGraphGame extends JFrame {
     private final int MAX_ROUNDS = 3;
     private boolean isDiceRolling = false;
     private int currentDiceValue = 1;
+    // Rencana kedua belas hasil lemparan, dihitung di background selama dice berputar
+    private CompletableFuture<MovePlan[]> prefetchedPlans;
     private final double SAFE_PROBABILITY = 0.80;
 
     private JTextArea logArea;
@@ -37,7 +40,8 @@ public class SnakeGraphGame extends JFrame {
     private JLabel lblStatus, lblTurn, lblRound;
     private JButton btnAction;
     private Font minecraftFont;
-    private BufferedImage[] skinPreviews = new BufferedImage[12];
+    private boolean activeRendering = false;
+    private static final int ACTIVE_FPS = 60;
 
     public SnakeGraphGame() {
         setTitle("Minecraft Adventure: Skyblock Graph");
@@ -46,7 +50,6 @@ public class SnakeGraphGame extends JFrame {
         setLocationRelativeTo(null);
 
         loadFont();
-        loadSkinPreviews();
 
         menuPanel = new MainMenuPanel(
                 e -> showSetupDialog(),
@@ -62,7 +65,7 @@ public class SnakeGraphGame extends JFrame {
     private void showSettingsDialog() {
         soundManager.playSFX("click");
         JDialog d = new JDialog(this, "Game Settings", true);
-        d.setSize(400, 300);
+        d.setSize(400, 380);
         d.setLocationRelativeTo(this);
         JPanel p = new JPanel(new GridBagLayout());
         p.setBackground(new Color(40, 40, 40));
@@ -85,6 +88,21 @@ public class SnakeGraphGame extends JFrame {
         styleSlider(slSfx);
         slSfx.addChangeListener(e -> soundManager.setSFXVolume(slSfx.getValue() / 100f));
 
+        JLabel lblLatency = new JLabel(soundManager.latencyText());
+        lblLatency.setForeground(Color.LIGHT_GRAY);
+        lblLatency.setFont(minecraftFont.deriveFont(12f));
+
+        // Active rendering: the board is redrawn by a 60 FPS game loop instead of repaint(), with an FPS readout
+        JCheckBox chkActive = new JCheckBox("Active rendering (FPS)", activeRendering);
+        chkActive.setForeground(Color.WHITE);
+        chkActive.setBackground(new Color(40, 40, 40));
+        chkActive.setFont(minecraftFont.deriveFont(12f));
+        chkActive.setFocusPainted(false);
+        chkActive.addActionListener(e -> {
+            activeRendering = chkActive.isSelected();
+            if (gamePanel != null) gamePanel.setActiveRendering(activeRendering, ACTIVE_FPS);
+        });
+
         JButton btnOk = new JButton("DONE");
         styleButton(btnOk);
         btnOk.addActionListener(e -> d.dispose());
@@ -96,7 +114,9 @@ public class SnakeGraphGame extends JFrame {
         gbc.gridy=2; p.add(slMus, gbc);
         gbc.gridy=3; p.add(lblSfx, gbc);
         gbc.gridy=4; p.add(slSfx, gbc);
-        gbc.gridy=5; p.add(btnOk, gbc);
+        gbc.gridy=5; p.add(lblLatency, gbc);
+        gbc.gridy=6; p.add(chkActive, gbc);
+        gbc.gridy=7; p.add(btnOk, gbc);
 
         d.add(p);
         d.setVisible(true);
@@ -176,7 +196,7 @@ public class SnakeGraphGame extends JFrame {
     }
 
     private void startGame(boolean resetScores) {
-        logic = new GameLogic();
+        logic = new GameLogic(GameLogic.DEFAULT_NODES);
         logic.generateRandomConnections();
         logic.generateRandomScores();
 
@@ -305,12 +325,15 @@ public class SnakeGraphGame extends JFrame {
         });
 
         container.add(gamePanel, BorderLayout.CENTER);
+        if (activeRendering) gamePanel.setActiveRendering(true, ACTIVE_FPS);
         container.add(controlPanel, BorderLayout.EAST);
         return container;
     }
 
     private void startRolling() {
         isDiceRolling = true; btnAction.setText("STOP!");
+        int from = currentPlayer.position;
+        prefetchedPlans = CompletableFuture.supplyAsync(() -> logic.planAllMoves(from));
         new Thread(() -> {
             while (isDiceRolling) {
                 currentDiceValue = (int)(Math.random()*6)+1;
@@ -334,57 +357,45 @@ public class SnakeGraphGame extends JFrame {
             soundManager.playSFX("damage");
         }
 
-        int target = isGreen ? currentPlayer.position + currentDiceValue : currentPlayer.position - currentDiceValue;
-        if(target < 0) target = 0; if(target >= GameLogic.TOTAL_NODES) target = GameLogic.TOTAL_NODES-1;
-
-        boolean useDijkstra = isGreen && logic.isPrime(currentPlayer.position + 1);
+        // Pakai rencana yang sudah dihitung selagi dice berputar; kalau belum siap atau basi, hitung sekarang
+        MovePlan[] plans = prefetchedPlans != null ? prefetchedPlans.getNow(null) : null;
+        prefetchedPlans = null;
+        MovePlan prefetched = plans != null ? plans[MovePlan.slot(currentDiceValue, isGreen)] : null;
+        MovePlan move = logic.isCurrent(prefetched, currentPlayer.position) ? prefetched : logic.planMove(currentPlayer.position, currentDiceValue, isGreen);
+        int[] path = move.path;
 
         log("\n--- " + currentPlayer.name + " ---");
         log("Rolled: " + currentDiceValue + " " + statusTxt);
-
-        List<Integer> path;
-        if (useDijkstra) {
-            log("[PRIME] Algorithmic Calculation...");
-            path = logic.getShortestPath(currentPlayer.position, target);
-        } else {
-            path = new ArrayList<>();
-            if (isGreen) {
-                if (currentPlayer.position < target) {
-                    for(int i=currentPlayer.position+1; i<=target; i++) path.add(i);
-                }
-            } else {
-                if (currentPlayer.position > target) {
-                    for(int i=currentPlayer.position-1; i>=target; i--) path.add(i);
-                }
-            }
-        }
+        if (move.usedShortestPath) log("[PRIME] Algorithmic Calculation...");
 
         new Thread(() -> {
             try {
                 moveHistoryStack.push("Start: " + (currentPlayer.position+1));
 
-                for(int next : path) {
+                for(int i = 0; i < path.length; i++) {
+                    int next = path[i];
+                    boolean apple = move.apple[i];
                     Thread.sleep(400);
                     currentPlayer.position = next;
                     soundManager.playStep();
                     moveHistoryStack.push("-> " + (next+1));
                     log("Step: " + (next+1));
                     SwingUtilities.invokeLater(() -> {
-                        if(logic.nodeScores.containsKey(next)) {
-                            int coin = logic.nodeScores.get(next);
+                        // takeScore mengembalikan 0 kalau apelnya ternyata sudah tidak ada
+                        int coin = apple ? logic.takeScore(next) : 0;
+                        if(coin > 0) {
                             currentPlayer.score += coin;
                             soundManager.playSFX("level_up");
                             log("Found Golden Apple! +" + coin);
-                            logic.nodeScores.remove(next);
                             updateUIComponents();
                         }
                     });
                     gamePanel.repaint();
                 }
 
-                if (isGreen && logic.randomConnections.containsKey(currentPlayer.position)) {
+                if (move.isLadder()) {
                     Thread.sleep(300);
-                    int jumpTarget = logic.randomConnections.get(currentPlayer.position);
+                    int jumpTarget = move.jumpTo;
 
                     log("FOUND LADDER! Climbing to " + (jumpTarget + 1));
                     soundManager.playSFX("level_up");
@@ -394,9 +405,22 @@ public class SnakeGraphGame extends JFrame {
                     gamePanel.repaint();
 
                     moveHistoryStack.push("-> LADDER -> " + (jumpTarget + 1));
+                } else if (move.isSnake()) {
+                    // Ular berlaku ke mana pun arah langkahnya
+                    Thread.sleep(300);
+                    int tail = move.jumpTo;
+
+                    log("BITTEN BY A SNAKE! Sliding to " + (tail + 1));
+                    soundManager.playSFX("damage");
+
+                    Thread.sleep(600);
+                    currentPlayer.position = tail;
+                    gamePanel.repaint();
+
+                    moveHistoryStack.push("-> SNAKE -> " + (tail + 1));
                 }
 
-                if (currentPlayer.position == GameLogic.TOTAL_NODES - 1) {
+                if (currentPlayer.position == logic.totalNodes - 1) {
                     currentPlayer.score += 50;
                     soundManager.playSFX("level_up");
                     log("FINISH BONUS! +50 Pts");
@@ -534,7 +558,8 @@ public class SnakeGraphGame extends JFrame {
         JDialog dialog = new JDialog(this, "Skin: " + name, true);
         for (int k = 0; k < 12; k++) {
             final int idx = k; JButton btn = new JButton();
-            if (skinPreviews[k] != null) btn.setIcon(new ImageIcon(skinPreviews[k].getScaledInstance(64,64,Image.SCALE_SMOOTH)));
+            BufferedImage preview = AssetManager.scaled(Main.skinPath(k), 64, 64);
+            if (preview != null) btn.setIcon(new ImageIcon(preview));
             else btn.setText(""+(k+1));
             btn.addActionListener(e -> { selected[0] = idx; dialog.dispose(); });
             panel.add(btn);
@@ -577,26 +602,7 @@ public class SnakeGraphGame extends JFrame {
     }
 
     private void loadFont() {
-        try {
-            java.net.URL fontUrl = getClass().getResource("/SnakeandLadderGame/assets/Minecraft.ttf");
-            if(fontUrl != null) {
-                minecraftFont = Font.createFont(Font.TRUETYPE_FONT, fontUrl.openStream());
-                GraphicsEnvironment.getLocalGraphicsEnvironment().registerFont(minecraftFont);
-            }
-        } catch (Exception e) {}
-    }
-
-    private void loadSkinPreviews() {
-        String basePath = "/SnakeandLadderGame/assets/";
-        try {
-            for(int i=0; i<6; i++) {
-                java.net.URL u1 = getClass().getResource(basePath + "gp" + (i+1) + ".png");
-                if (u1 != null) skinPreviews[i] = ImageIO.read(u1);
-
-                java.net.URL u2 = getClass().getResource(basePath + "bp" + (i+1) + ".png");
-                if (u2 != null) skinPreviews[i+6] = ImageIO.read(u2);
-            }
-        } catch(Exception e) { System.out.println("Gagal load preview skin"); }
+        minecraftFont = AssetManager.font(Main.ASSET_PATH + "Minecraft.ttf");
     }
 
     class DiceVisualPanel extends JPanel {